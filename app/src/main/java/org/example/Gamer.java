@@ -0,0 +1,93 @@
+package org.example;
+
+import org.example.annotations.DirtyFields;
+import org.example.annotations.DirtyTracking;
+import org.example.annotations.MaxValue;
+import org.example.annotations.MinValue;
+import org.example.annotations.NotNull;
+
+/**
+ * The {@code Gamer} class represents a gamer with a username and age.
+ * It uses custom annotations to enforce validation constraints on the fields.
+ * <p>
+ * The {@link NotNull} annotation ensures that the {@code username} field cannot be {@code null}.
+ * The {@link MinValue} and {@link MaxValue} annotations enforce a minimum and maximum age for the {@code age} field, respectively.
+ * </p>
+ * <p>
+ * The setters record the changed field, so {@link org.example.annotations.Validator#revalidate(Object)}
+ * checks only the fields changed since the last successful validation.
+ * </p>
+ */
+public class Gamer implements DirtyTracking {
+
+    /**
+     * The indices of the tracked fields, resolved on the first change rather than when the class is initialized.
+     */
+    private static final class Fields {
+        static final int USERNAME = DirtyFields.index(Gamer.class, "username");
+        static final int AGE = DirtyFields.index(Gamer.class, "age");
+    }
+
+    /**
+     * The username of the gamer. Cannot be {@code null}.
+     */
+    @NotNull
+    String username;
+
+    /**
+     * The age of the human. The value must be between 12 and 100 (inclusive).
+     */
+    @MinValue(12)
+    @MaxValue(100)
+    int age;
+
+    /**
+     * The fields changed since the last successful validation, created by the first change, so that
+     * validating an unchanged object allocates nothing.
+     */
+    private transient DirtyFields dirty;
+
+    /**
+     * Constructs a {@code Gamer} with the specified username and age.
+     *
+     * @param username the username of the gamer
+     * @param age the age of the gamer
+     */
+    public Gamer(String username, int age) {
+        this.username = username;
+        this.age = age;
+    }
+
+    /**
+     * Sets the username of the gamer and marks it for revalidation.
+     *
+     * @param username the new username
+     */
+    public void setUsername(String username) {
+        this.username = username;
+        dirtyFields().mark(Fields.USERNAME);
+    }
+
+    /**
+     * Sets the age of the gamer and marks it for revalidation.
+     *
+     * @param age the new age
+     */
+    public void setAge(int age) {
+        this.age = age;
+        dirtyFields().mark(Fields.AGE);
+    }
+
+    @Override
+    public DirtyFields dirtyFields() {
+        if (dirty == null) {
+            dirty = new DirtyFields(getClass());
+        }
+        return dirty;
+    }
+
+    @Override
+    public DirtyFields currentDirtyFields() {
+        return dirty;
+    }
+}
\ No newline at end of file
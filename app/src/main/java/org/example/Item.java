@@ -0,0 +1,91 @@
+package org.example;
+
+import org.example.annotations.DirtyFields;
+import org.example.annotations.DirtyTracking;
+import org.example.annotations.NotNull;
+import org.example.annotations.StringLength;
+
+/**
+ * The {@code Item} class represents a product with a title and description.
+ * It uses custom annotations to enforce validation constraints on the fields.
+ * <p>
+ * The {@link NotNull} annotation ensures that the {@code title} field cannot be {@code null}.
+ * The {@link StringLength} annotation enforces a minimum and maximum length for the {@code description} field.
+ * </p>
+ * <p>
+ * The setters record the changed field, so {@link org.example.annotations.Validator#revalidate(Object)}
+ * checks only the fields changed since the last successful validation.
+ * </p>
+ */
+public class Item implements DirtyTracking {
+
+    /**
+     * The indices of the tracked fields, resolved on the first change rather than when the class is initialized.
+     */
+    private static final class Fields {
+        static final int TITLE = DirtyFields.index(Item.class, "title");
+        static final int DESCRIPTION = DirtyFields.index(Item.class, "description");
+    }
+
+    /**
+     * The title of the product. Cannot be {@code null}.
+     */
+    @NotNull
+    String title;
+
+    /**
+     * The description of the product. The length must be between 3 and 100 characters.
+     */
+    @StringLength(min = 3, max = 100)
+    String description;
+
+    /**
+     * The fields changed since the last successful validation, created by the first change, so that
+     * validating an unchanged object allocates nothing.
+     */
+    private transient DirtyFields dirty;
+
+    /**
+     * Constructs an {@code Item} with the specified title and description.
+     *
+     * @param title the title of the product
+     * @param description the description of the product
+     */
+    public Item(String title, String description) {
+        this.title = title;
+        this.description = description;
+    }
+
+    /**
+     * Sets the title of the product and marks it for revalidation.
+     *
+     * @param title the new title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+        dirtyFields().mark(Fields.TITLE);
+    }
+
+    /**
+     * Sets the description of the product and marks it for revalidation.
+     *
+     * @param description the new description
+     */
+    public void setDescription(String description) {
+        this.description = description;
+        dirtyFields().mark(Fields.DESCRIPTION);
+    }
+
+    @Override
+    public DirtyFields dirtyFields() {
+        if (dirty == null) {
+            dirty = new DirtyFields(getClass());
+        }
+        return dirty;
+    }
+
+    @Override
+    public DirtyFields currentDirtyFields() {
+        return dirty;
+    }
+}
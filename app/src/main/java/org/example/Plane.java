@@ -0,0 +1,65 @@
+package org.example;
+
+import org.example.annotations.MessageCatalog;
+import org.example.annotations.ValidationMetrics;
+
+/**
+ * The {@code Plane} class represents a plane with a model and year.
+ * It uses custom validation logic to ensure the fields meet specific constraints.
+ * <p>
+ * The {@code model} field cannot be {@code null} and must have a length between 3 and 100 characters.
+ * The {@code year} field must be between 1970 and 2024.
+ * </p>
+ */
+public class Plane {
+
+    private static final String MODEL_NULL = MessageCatalog.notNull(Plane.class, "model");
+    private static final String MODEL_LENGTH = MessageCatalog.length(Plane.class, "model", 3, 25);
+    private static final String YEAR_RANGE = MessageCatalog.range(Plane.class, "year", 1970, 2024);
+
+    public String model;
+    public int year;
+
+    /**
+     * Constructs a {@code Plane} with the specified model and year.
+     *
+     * @param model the model of the plane
+     * @param year the year of the plane
+     */
+    public Plane(String model, int year) {
+        this.model = model;
+        this.year = year;
+    }
+
+    /**
+     * Validates the fields of the {@code Plane} instance based on the constraints.
+     * <p>
+     * The {@code model} field must not be {@code null} and must have a length between 3 and 100 characters.
+     * The {@code year} field must be between 1970 and 2024.
+     * </p>
+     * <p>
+     * The check is reported to {@link ValidationMetrics} as a hand-written validation. The error
+     * messages are taken from the {@link MessageCatalog} once, when the class is initialized.
+     * </p>
+     *
+     * @throws IllegalArgumentException if any validation constraint is violated
+     */
+    public void validate() {
+        long start = ValidationMetrics.start();
+        boolean valid = false;
+        try {
+            if (model == null) {
+                throw new IllegalArgumentException(MODEL_NULL);
+            }
+            if (model.length() < 3 || model.length() > 25) {
+                throw new IllegalArgumentException(MODEL_LENGTH);
+            }
+            if (year < 1970 || year > 2024) {
+                throw new IllegalArgumentException(YEAR_RANGE);
+            }
+            valid = true;
+        } finally {
+            ValidationMetrics.recordManual(Plane.class, start, valid);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example;
 
+import org.example.annotations.MessageCatalog;
+
 /**
  * The {@code TypedGamer} class represents a gamer with a username and age.
  * It ensures that the username is not null or empty, and that the age is within the range of 12 to 100 years.
@@ -14,6 +16,9 @@ package org.example;
  */
 public class TypedGamer {
 
+    private static final String USERNAME_EMPTY = MessageCatalog.message(TypedGamer.class, "username", "cannot be null or empty.");
+    private static final String AGE_RANGE = MessageCatalog.range(TypedGamer.class, "age", 12, 100);
+
     private String username;
     private int age;
 
@@ -27,10 +32,10 @@ public class TypedGamer {
      */
     public TypedGamer(String username, int age) {
         if (username == null || username.isEmpty()) {
-            throw new IllegalArgumentException("Field 'username' in TypedGamer cannot be null or empty.");
+            throw new IllegalArgumentException(USERNAME_EMPTY);
         }
         if (age < 12 || age > 100) {
-            throw new IllegalArgumentException("Field 'age' in TypedGamer must be between 12 and 100.");
+            throw new IllegalArgumentException(AGE_RANGE);
         }
         this.username = username;
         this.age = age;
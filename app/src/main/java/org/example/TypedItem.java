@@ -1,5 +1,7 @@
 package org.example;
 
+import org.example.annotations.MessageCatalog;
+
 /**
  * The {@code TypedItem} class represents an item with a title and a description.
  * It ensures that the title is not null or empty, and that the description is within the length range of 3 to 100 characters.
@@ -14,6 +16,9 @@ package org.example;
  */
 public class TypedItem {
 
+    private static final String TITLE_EMPTY = MessageCatalog.message(TypedItem.class, "title", "cannot be null or empty.");
+    private static final String DESCRIPTION_LENGTH = MessageCatalog.length(TypedItem.class, "description", 3, 100);
+
     private String title;
     private String description;
 
@@ -27,10 +32,10 @@ public class TypedItem {
      */
     public TypedItem(String title, String description) {
         if (title == null || title.isEmpty()) {
-            throw new IllegalArgumentException("Field 'title' in TypedItem cannot be null or empty.");
+            throw new IllegalArgumentException(TITLE_EMPTY);
         }
         if (description == null || description.length() < 3 || description.length() > 100) {
-            throw new IllegalArgumentException("Field 'description' in TypedItem must have length between 3 and 100.");
+            throw new IllegalArgumentException(DESCRIPTION_LENGTH);
         }
         this.title = title;
         this.description = description;
@@ -1,5 +1,7 @@
 package org.example;
 
+import org.example.annotations.MessageCatalog;
+
 /**
  * The {@code TypedPlane} class represents an airplane with a model and a manufacturing year.
  * It ensures that the model name is between 3 and 25 characters long, and that the manufacturing year is between 1970 and 2024.
@@ -14,6 +16,10 @@ package org.example;
  */
 public class TypedPlane {
 
+    private static final String MODEL_EMPTY = MessageCatalog.message(TypedPlane.class, "model", "cannot be null or empty.");
+    private static final String MODEL_LENGTH = MessageCatalog.length(TypedPlane.class, "model", 3, 25);
+    private static final String YEAR_RANGE = MessageCatalog.range(TypedPlane.class, "year", 1970, 2024);
+
     private String model;
     private int year;
 
@@ -28,13 +34,13 @@ public class TypedPlane {
      */
     public TypedPlane(String model, int year) {
         if (model == null || model.isEmpty()) {
-            throw new IllegalArgumentException("Field 'model' in TypedPlane cannot be null or empty.");
+            throw new IllegalArgumentException(MODEL_EMPTY);
         }
         if (model.length() < 3 || model.length() > 25) {
-            throw new IllegalArgumentException("Field 'model' in TypedPlane must have length between 3 and 25.");
+            throw new IllegalArgumentException(MODEL_LENGTH);
         }
         if (year < 1970 || year > 2024) {
-            throw new IllegalArgumentException("Field 'year' in TypedPlane must be between 1970 and 2024.");
+            throw new IllegalArgumentException(YEAR_RANGE);
         }
         this.model = model;
         this.year = year;
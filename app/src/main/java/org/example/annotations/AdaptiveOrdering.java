@@ -0,0 +1,74 @@
+package org.example.annotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code AdaptiveOrdering} class switches validation to fail-fast check orders learned at runtime.
+ * <p>
+ * By default, fields are checked in declaration order. In adaptive mode, {@link Validator} samples
+ * about one validation in 64 and records, per field, how often its check fails and how long it
+ * takes. Every 256 samples, the order of the class is recomputed so that the checks with the highest failure rate per
+ * nanosecond run first, and the new order is published with a single volatile write, so
+ * validating threads are never blocked and keep using the previous order until they see it.
+ * </p>
+ * <p>
+ * Only the order of the checks changes: an invalid object is still rejected, but when it violates
+ * several constraints, a different one may be reported. Generated validators hard-code the
+ * declaration order, so adaptive mode replaces them with the validation plan; it pays off for
+ * workloads with high rejection rates. A {@link ValidationResult} collecting all violations is
+ * always filled in declaration order.
+ * </p>
+ * Adaptive mode is off by default and can be enabled at startup with
+ * {@code -Dorg.example.validation.adaptive=true}.
+ */
+public final class AdaptiveOrdering {
+
+    private static volatile boolean enabled = Boolean.getBoolean("org.example.validation.adaptive");
+
+    private AdaptiveOrdering() {
+    }
+
+    /**
+     * Returns whether check orders are adapted at runtime.
+     *
+     * @return {@code true} if adaptive mode is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns adaptive mode on or off. Learned orders are kept while it is off.
+     *
+     * @param enabled {@code true} to enable adaptive mode
+     */
+    public static void setEnabled(boolean enabled) {
+        AdaptiveOrdering.enabled = enabled;
+    }
+
+    /**
+     * Returns the names of the constrained fields of the specified class in the order they are
+     * currently checked in adaptive mode.
+     *
+     * @param type the validated class
+     * @return the field names, most likely failing first
+     */
+    public static List<String> order(Class<?> type) {
+        AdaptivePlan plan = AdaptivePlan.of(type);
+        List<String> names = new ArrayList<>();
+        for (int index : plan.order()) {
+            names.add(plan.plan.checks[index].field.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Forgets the order learned for the specified class and restarts from declaration order.
+     *
+     * @param type the validated class
+     */
+    public static void reset(Class<?> type) {
+        AdaptivePlan.of(type).reset();
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.annotations;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code AdaptivePlan} class runs the checks of a {@link ValidationPlan} in an order
+ * learned from their observed failure rates and costs.
+ * <p>
+ * The current order is an immutable permutation of the plan indices held in a volatile field.
+ * Sampled validations time every check and count evaluations and failures in
+ * {@link LongAdder}s. The thread that wins a compare-and-set on {@link #reordering} folds the
+ * counters into exponentially smoothed rates and costs, ranks the checks by failure rate per
+ * nanosecond, and publishes the new permutation; all other threads carry on without waiting.
+ * </p>
+ */
+final class AdaptivePlan {
+
+    static final int SAMPLE_RATE = 64;
+    static final int REORDER_INTERVAL = 256;
+
+    private static final double SMOOTHING = 0.5;
+
+    private static final ClassValue<AdaptivePlan> PLANS = new ClassValue<>() {
+        @Override
+        protected AdaptivePlan computeValue(Class<?> type) {
+            return new AdaptivePlan(ValidationPlan.of(type));
+        }
+    };
+
+    final ValidationPlan plan;
+
+    private volatile int[] order;
+    private volatile long nextReorder = REORDER_INTERVAL;
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder[] evaluations;
+    private final LongAdder[] failures;
+    private final LongAdder[] nanos;
+
+    // Written only by the thread holding the reordering flag.
+    private final double[] failureRate;
+    private final double[] cost;
+
+    private AdaptivePlan(ValidationPlan plan) {
+        this.plan = plan;
+        int n = plan.checks.length;
+        this.evaluations = adders(n);
+        this.failures = adders(n);
+        this.nanos = adders(n);
+        this.failureRate = new double[n];
+        this.cost = new double[n];
+        this.order = declarationOrder(n);
+    }
+
+    /**
+     * Returns the adaptive plan of the specified class, creating it on first use.
+     *
+     * @param type the class to be validated
+     * @return the adaptive plan of the class
+     */
+    static AdaptivePlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the current order of the plan indices.
+     */
+    int[] order() {
+        return order.clone();
+    }
+
+    /**
+     * Validates the object in the current order, throwing on the first violation.
+     */
+    void validate(Object obj) throws Exception {
+        FieldCheck[] checks = plan.checks;
+        int[] current = order;
+        if (!sample()) {
+            for (int index : current) {
+                Validator.validateField(checks[index], obj);
+            }
+            return;
+        }
+        for (int index : current) {
+            long start = System.nanoTime();
+            try {
+                Validator.validateField(checks[index], obj);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Type mismatches are failures too, as in Validator.validate(Object).
+                observe(index, start, true);
+                sampled();
+                throw e;
+            }
+            observe(index, start, false);
+        }
+        sampled();
+    }
+
+    /**
+     * Records the first violation of the object in the current order into the result.
+     */
+    boolean collect(Object obj, ValidationResult result) {
+        FieldCheck[] checks = plan.checks;
+        int[] current = order;
+        if (!sample()) {
+            for (int index : current) {
+                if (!Validator.check(checks[index], index, obj, result)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        boolean valid = true;
+        for (int index : current) {
+            long start = System.nanoTime();
+            valid = Validator.check(checks[index], index, obj, result);
+            observe(index, start, !valid);
+            if (!valid) {
+                break;
+            }
+        }
+        sampled();
+        return valid;
+    }
+
+    /**
+     * Restores declaration order and discards the observations.
+     */
+    void reset() {
+        while (!reordering.compareAndSet(false, true)) {
+            Thread.onSpinWait();
+        }
+        try {
+            for (int i = 0; i < plan.checks.length; i++) {
+                evaluations[i].reset();
+                failures[i].reset();
+                nanos[i].reset();
+                failureRate[i] = 0;
+                cost[i] = 0;
+            }
+            order = declarationOrder(plan.checks.length);
+            nextReorder = samples.sum() + REORDER_INTERVAL;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    private static boolean sample() {
+        return ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+    }
+
+    private void observe(int index, long start, boolean failed) {
+        nanos[index].add(System.nanoTime() - start);
+        evaluations[index].increment();
+        if (failed) {
+            failures[index].increment();
+        }
+    }
+
+    private void sampled() {
+        samples.increment();
+        if (samples.sum() >= nextReorder && reordering.compareAndSet(false, true)) {
+            try {
+                reorder();
+                nextReorder = samples.sum() + REORDER_INTERVAL;
+            } finally {
+                reordering.set(false);
+            }
+        }
+    }
+
+    private void reorder() {
+        int n = plan.checks.length;
+        Integer[] ranked = new Integer[n];
+        double[] score = new double[n];
+        for (int i = 0; i < n; i++) {
+            long evaluated = evaluations[i].sumThenReset();
+            long failed = failures[i].sumThenReset();
+            long spent = nanos[i].sumThenReset();
+            if (evaluated > 0) {
+                failureRate[i] = smooth(failureRate[i], (double) failed / evaluated);
+                cost[i] = smooth(cost[i], (double) spent / evaluated);
+            }
+            score[i] = failureRate[i] / Math.max(cost[i], 1.0);
+            ranked[i] = i;
+        }
+        // A stable sort keeps checks that never fail in declaration order.
+        Arrays.sort(ranked, (a, b) -> Double.compare(score[b], score[a]));
+        int[] next = new int[n];
+        for (int i = 0; i < n; i++) {
+            next[i] = ranked[i];
+        }
+        if (!Arrays.equals(next, order)) {
+            order = next;
+        }
+    }
+
+    private static double smooth(double previous, double observed) {
+        return previous == 0 ? observed : previous + SMOOTHING * (observed - previous);
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for (int i = 0; i < n; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static int[] declarationOrder(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+}
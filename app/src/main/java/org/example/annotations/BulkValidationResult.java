@@ -0,0 +1,139 @@
+package org.example.annotations;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BulkValidationResult} class holds the per-element results of
+ * {@link Validator#validateAll(Object[])}, in input order.
+ * <p>
+ * For every invalid element the first violation is kept as structured data, in the same
+ * form as in {@link ValidationResult}; messages are formatted only on request.
+ * </p>
+ */
+public final class BulkValidationResult {
+
+    private final ValidationPlan[] plans;
+    private final int[] fieldIndexes;
+    private final Constraint[] constraints;
+    private final int[] bounds;
+    private final int[] elements;
+
+    BulkValidationResult(int size) {
+        this.plans = new ValidationPlan[size];
+        this.fieldIndexes = new int[size];
+        this.constraints = new Constraint[size];
+        this.bounds = new int[size];
+        this.elements = new int[size];
+    }
+
+    /**
+     * Returns the number of validated elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return plans.length;
+    }
+
+    /**
+     * Returns whether all elements satisfied their constraints.
+     *
+     * @return {@code true} if no element is invalid
+     */
+    public boolean isValid() {
+        return invalidCount() == 0;
+    }
+
+    /**
+     * Returns whether the element at the specified index satisfied its constraints.
+     *
+     * @param index the index of the element in the input
+     * @return {@code true} if the element is valid
+     */
+    public boolean isValid(int index) {
+        return constraints[index] == null;
+    }
+
+    /**
+     * Returns the number of invalid elements.
+     *
+     * @return the number of invalid elements
+     */
+    public int invalidCount() {
+        int count = 0;
+        for (Constraint constraint : constraints) {
+            if (constraint != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the indexes of the invalid elements, in ascending order.
+     *
+     * @return the indexes of the invalid elements
+     */
+    public int[] invalidIndexes() {
+        int[] indexes = new int[invalidCount()];
+        int next = 0;
+        for (int i = 0; i < constraints.length; i++) {
+            if (constraints[i] != null) {
+                indexes[next++] = i;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the code of the first violated constraint of the element.
+     *
+     * @param index the index of the element in the input
+     * @return the constraint code, or {@code null} if the element is valid
+     */
+    public Constraint constraint(int index) {
+        return constraints[index];
+    }
+
+    /**
+     * Returns the name of the first violated field of the element.
+     *
+     * @param index the index of the element in the input
+     * @return the name of the field, or {@code null} if the element is valid
+     */
+    public String fieldName(int index) {
+        return isValid(index) ? null : plans[index].checks[fieldIndexes[index]].field.getName();
+    }
+
+    /**
+     * Formats the message of the first violation of the element, identical to the one
+     * thrown by {@link Validator#validate(Object)}.
+     *
+     * @param index the index of the element in the input
+     * @return the error message, or {@code null} if the element is valid
+     */
+    public String message(int index) {
+        if (isValid(index)) {
+            return null;
+        }
+        return ValidationResult.format(plans[index].checks[fieldIndexes[index]], constraints[index], bounds[index],
+                elements[index]);
+    }
+
+    /**
+     * Copies the first violation of the specified result into the slot of an element.
+     * Elements are written by disjoint tasks, so no synchronization is needed.
+     */
+    void record(int index, ValidationResult result) {
+        plans[index] = result.plan(0);
+        fieldIndexes[index] = result.fieldIndex(0);
+        constraints[index] = result.constraint(0);
+        bounds[index] = result.bound(0);
+        elements[index] = result.elementIndex(0);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationResult[size=" + size() + ", invalid=" + Arrays.toString(invalidIndexes()) + "]";
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.annotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code BulkValidator} class splits the validation of large batches into tasks.
+ * <p>
+ * Batches of up to {@link #SEQUENTIAL_THRESHOLD} elements are validated on the calling thread,
+ * so small batches pay no parallel overhead. Larger batches are cut into contiguous chunks of
+ * at least that size, about four per available processor, which are submitted to the supplied
+ * executor; the last chunk runs on the calling thread. Each chunk reuses a single
+ * {@link ValidationResult}, and every element writes only its own slot of the shared
+ * {@link BulkValidationResult}, which keeps the results in input order.
+ * </p>
+ * <p>
+ * An exception in any chunk, such as the {@link NullPointerException} of a {@code null} element,
+ * stops the other chunks at their next element. It is thrown only after all submitted chunks
+ * have ended, with the exceptions of the other chunks suppressed, so no chunk still runs once
+ * the caller sees it.
+ * </p>
+ */
+final class BulkValidator {
+
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private BulkValidator() {
+    }
+
+    /**
+     * Validates all elements of the array.
+     *
+     * @param objects the objects to be validated
+     * @param executor the executor running the chunks of a large batch
+     * @return the per-element results
+     */
+    static BulkValidationResult validate(Object[] objects, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        BulkValidationResult result = new BulkValidationResult(objects.length);
+        AtomicBoolean failed = new AtomicBoolean();
+        if (objects.length <= SEQUENTIAL_THRESHOLD) {
+            validateRange(objects, 0, objects.length, result, failed);
+            return result;
+        }
+
+        int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+        int chunkSize = Math.max(SEQUENTIAL_THRESHOLD, (objects.length + chunks - 1) / chunks);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        int start = 0;
+        for (; start + chunkSize < objects.length; start += chunkSize) {
+            int from = start;
+            int to = start + chunkSize;
+            tasks.add(CompletableFuture.runAsync(() -> validateRange(objects, from, to, result, failed), executor));
+        }
+        try {
+            validateRange(objects, start, objects.length, result, failed);
+        } catch (RuntimeException | Error e) {
+            for (CompletableFuture<Void> task : tasks) {
+                try {
+                    task.join();
+                } catch (CompletionException other) {
+                    e.addSuppressed(other.getCause() != null ? other.getCause() : other);
+                }
+            }
+            throw e;
+        }
+
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Validates a chunk, stopping early once another chunk has failed.
+     */
+    private static void validateRange(Object[] objects, int from, int to, BulkValidationResult result,
+                                      AtomicBoolean failed) {
+        ValidationResult elementResult = new ValidationResult();
+        try {
+            for (int i = from; i < to && !failed.get(); i++) {
+                Object obj = objects[i];
+                if (obj == null) {
+                    throw new NullPointerException("Element at index " + i + " is null.");
+                }
+                if (!Validator.validate(obj, elementResult)) {
+                    result.record(i, elementResult);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+}
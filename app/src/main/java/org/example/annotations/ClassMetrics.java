@@ -0,0 +1,137 @@
+package org.example.annotations;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code ClassMetrics} class holds the validation counters and latencies of one class.
+ * <p>
+ * All counters are {@link LongAdder}s, one per {@link ValidationPath} and one per field and
+ * {@link Constraint}, so concurrent validations of the same class do not contend.
+ * </p>
+ */
+final class ClassMetrics implements ClassValidationMXBean {
+
+    private static final ValidationPath[] PATHS = ValidationPath.values();
+    private static final Constraint[] CONSTRAINTS = Constraint.values();
+
+    final Class<?> type;
+    private final FieldCheck[] checks;
+    private final LongAdder[] validations = new LongAdder[PATHS.length];
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder[][] constraintFailures;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Whether this bean is registered with the platform MBean server, set by {@link ValidationMetrics}.
+     */
+    volatile boolean registered;
+
+    ClassMetrics(Class<?> type) {
+        this.type = type;
+        this.checks = ValidationPlan.of(type).checks;
+        for (int i = 0; i < validations.length; i++) {
+            validations[i] = new LongAdder();
+        }
+        this.constraintFailures = new LongAdder[checks.length][CONSTRAINTS.length];
+        for (LongAdder[] field : constraintFailures) {
+            for (int i = 0; i < field.length; i++) {
+                field[i] = new LongAdder();
+            }
+        }
+    }
+
+    void record(ValidationPath path, long nanos) {
+        validations[path.ordinal()].increment();
+        latency.record(nanos);
+    }
+
+    void recordFailure(int fieldIndex, Constraint constraint) {
+        failures.increment();
+        if (constraint != null) {
+            constraintFailures[fieldIndex][constraint.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public String getClassName() {
+        return type.getName();
+    }
+
+    @Override
+    public long getValidations() {
+        long total = 0;
+        for (LongAdder counter : validations) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public Map<String, Long> getValidationsByPath() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (ValidationPath path : PATHS) {
+            counts.put(path.name(), validations[path.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByConstraint() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int field = 0; field < checks.length; field++) {
+            for (Constraint constraint : CONSTRAINTS) {
+                long count = constraintFailures[field][constraint.ordinal()].sum();
+                if (count > 0) {
+                    counts.put(checks[field].field.getName() + ":" + constraint.name(), count);
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.mean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.percentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.percentile(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.percentile(99.9);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.max();
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder counter : validations) {
+            counter.reset();
+        }
+        failures.reset();
+        for (LongAdder[] field : constraintFailures) {
+            for (LongAdder counter : field) {
+                counter.reset();
+            }
+        }
+        latency.reset();
+    }
+}
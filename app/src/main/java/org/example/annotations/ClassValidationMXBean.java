@@ -0,0 +1,89 @@
+package org.example.annotations;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing the validation metrics of a single class.
+ * <p>
+ * Instances are registered under
+ * {@code org.example.annotations:type=ValidatedClass,name=<class name>} when metrics are enabled.
+ * </p>
+ */
+public interface ClassValidationMXBean {
+
+    /**
+     * Returns the fully qualified name of the validated class.
+     *
+     * @return the class name
+     */
+    String getClassName();
+
+    /**
+     * Returns the number of validations of all paths.
+     *
+     * @return the number of validations
+     */
+    long getValidations();
+
+    /**
+     * Returns the number of validations that found a violation.
+     *
+     * @return the number of failed validations
+     */
+    long getFailures();
+
+    /**
+     * Returns the number of validations per {@link ValidationPath}.
+     *
+     * @return the counts keyed by path name
+     */
+    Map<String, Long> getValidationsByPath();
+
+    /**
+     * Returns the number of failures per field and {@link Constraint}, keyed as {@code field:CONSTRAINT}.
+     * Only non-zero counts are included.
+     *
+     * @return the failure counts
+     */
+    Map<String, Long> getFailuresByConstraint();
+
+    /**
+     * Returns the mean validation time.
+     *
+     * @return the mean time in nanoseconds
+     */
+    double getMeanNanos();
+
+    /**
+     * Returns the median validation time.
+     *
+     * @return the 50th percentile in nanoseconds
+     */
+    long getP50Nanos();
+
+    /**
+     * Returns the 99th percentile of the validation time.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    long getP99Nanos();
+
+    /**
+     * Returns the 99.9th percentile of the validation time.
+     *
+     * @return the 99.9th percentile in nanoseconds
+     */
+    long getP999Nanos();
+
+    /**
+     * Returns the longest validation time.
+     *
+     * @return the maximum in nanoseconds
+     */
+    long getMaxNanos();
+
+    /**
+     * Resets all counters and the latency histogram of the class.
+     */
+    void reset();
+}
@@ -0,0 +1,208 @@
+package org.example.annotations;
+
+import java.nio.IntBuffer;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code ColumnarValidator} class applies the constraints declared on a class to data held
+ * as parallel column arrays, without creating an object per row.
+ * <p>
+ * Every constrained field of the class is bound to a column: {@code String[]} for
+ * {@link NotNull}, {@link StringLength} and {@link Pattern} fields, {@code int[]} or {@link IntBuffer} for
+ * {@link MinValue} and {@link MaxValue} fields. {@link #validate()} returns a bitmap with one
+ * bit set for every row that violates at least one constraint.
+ * </p>
+ * <p>
+ * Integer columns are processed in chunks of {@value #CHUNK} rows. Each chunk is first reduced
+ * to 0/1 flags by a branch-free loop made of subtractions, xors, ands and shifts only, which
+ * C2 compiles to SIMD instructions, and the flags are then packed into the bitmap. Direct
+ * buffers are copied chunk by chunk into a scratch array with a bulk get before the same loop runs.
+ * </p>
+ * <pre>{@code
+ * BitSet invalid = ColumnarValidator.of(Gamer.class)
+ *         .bind("username", usernames)
+ *         .bind("age", ages)
+ *         .validate();
+ * }</pre>
+ * Instances keep the bound columns and a scratch buffer, so they are not thread-safe.
+ */
+public final class ColumnarValidator {
+
+    private static final int CHUNK = 1024;
+
+    private final ValidationPlan plan;
+    private final Map<FieldCheck, Object> columns = new LinkedHashMap<>();
+    private final int[] scratch = new int[CHUNK];
+
+    private ColumnarValidator(ValidationPlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * Creates a columnar validator for the constraints declared on the specified class.
+     *
+     * @param type the class whose constraints are applied to the columns
+     * @return a validator without bound columns
+     */
+    public static ColumnarValidator of(Class<?> type) {
+        return new ColumnarValidator(ValidationPlan.of(type));
+    }
+
+    /**
+     * Binds a {@code String} column to the specified field.
+     *
+     * @param fieldName the name of a constrained field
+     * @param column the values of the field, one per row
+     * @return this validator
+     * @throws IllegalArgumentException if the field is unknown or has numeric constraints
+     */
+    public ColumnarValidator bind(String fieldName, String[] column) {
+        FieldCheck check = find(fieldName);
+        if (check.hasRange()) {
+            throw new IllegalArgumentException(Validator.getErrorMessage(check.field,
+                    "has numeric constraints and cannot be bound to a String column."));
+        }
+        columns.put(check, column);
+        return this;
+    }
+
+    /**
+     * Binds an {@code int} column to the specified field.
+     *
+     * @param fieldName the name of a constrained field
+     * @param column the values of the field, one per row
+     * @return this validator
+     * @throws IllegalArgumentException if the field is unknown or has string constraints
+     */
+    public ColumnarValidator bind(String fieldName, int[] column) {
+        return bind(fieldName, IntBuffer.wrap(column));
+    }
+
+    /**
+     * Binds an {@code int} column to the specified field. The rows are the remaining
+     * elements of the buffer; its position is not changed.
+     *
+     * @param fieldName the name of a constrained field
+     * @param column the values of the field, one per row
+     * @return this validator
+     * @throws IllegalArgumentException if the field is unknown or has string constraints
+     */
+    public ColumnarValidator bind(String fieldName, IntBuffer column) {
+        FieldCheck check = find(fieldName);
+        if (check.hasLength || check.pattern != null) {
+            throw new IllegalArgumentException(Validator.getErrorMessage(check.field,
+                    "has string constraints and cannot be bound to an int column."));
+        }
+        columns.put(check, column);
+        return this;
+    }
+
+    /**
+     * Validates all rows of the bound columns.
+     *
+     * @return a bitmap with the bit of every invalid row set
+     * @throws IllegalStateException if a constrained field has no column
+     * @throws IllegalArgumentException if the columns have different lengths
+     */
+    public BitSet validate() {
+        int rows = -1;
+        for (FieldCheck check : plan.checks) {
+            Object column = columns.get(check);
+            if (column == null) {
+                throw new IllegalStateException(Validator.getErrorMessage(check.field, "has no bound column."));
+            }
+            int length = column instanceof String[] strings ? strings.length : ((IntBuffer) column).remaining();
+            if (rows >= 0 && length != rows) {
+                throw new IllegalArgumentException(Validator.getErrorMessage(check.field,
+                        "has " + length + " rows, expected " + rows + "."));
+            }
+            rows = length;
+        }
+
+        long[] words = new long[(Math.max(rows, 0) + 63) >>> 6];
+        for (Map.Entry<FieldCheck, Object> entry : columns.entrySet()) {
+            if (entry.getValue() instanceof String[] strings) {
+                checkStrings(entry.getKey(), strings, words);
+            } else {
+                checkInts(entry.getKey(), (IntBuffer) entry.getValue(), words);
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private FieldCheck find(String fieldName) {
+        for (FieldCheck check : plan.checks) {
+            if (check.field.getName().equals(fieldName)) {
+                if (check.numeric != null) {
+                    throw new IllegalArgumentException(Validator.getErrorMessage(check.field,
+                            "has typed or array range constraints and cannot be bound to a column."));
+                }
+                return check;
+            }
+        }
+        throw new IllegalArgumentException("Class " + plan.type.getSimpleName()
+                + " has no constrained field '" + fieldName + "'.");
+    }
+
+    private static void checkStrings(FieldCheck check, String[] values, long[] words) {
+        boolean nullInvalid = check.notNull || check.hasLength;
+        for (int row = 0; row < values.length; row++) {
+            String value = values[row];
+            boolean invalid = value == null
+                    ? nullInvalid
+                    : check.hasLength && (value.length() < check.minLength || value.length() > check.maxLength)
+                    || check.pattern != null && !check.pattern.matches(value);
+            if (invalid) {
+                words[row >>> 6] |= 1L << row;
+            }
+        }
+    }
+
+    private void checkInts(FieldCheck check, IntBuffer column, long[] words) {
+        if (!check.hasRange()) {
+            return;
+        }
+        int min = check.hasMin ? check.min : Integer.MIN_VALUE;
+        int max = check.hasMax ? check.max : Integer.MAX_VALUE;
+        int rows = column.remaining();
+        int position = column.position();
+        int[] array = column.hasArray() ? column.array() : null;
+        int offset = array != null ? column.arrayOffset() + position : 0;
+
+        for (int base = 0; base < rows; base += CHUNK) {
+            int n = Math.min(CHUNK, rows - base);
+            if (array != null) {
+                flagOutOfRange(array, offset + base, scratch, n, min, max);
+            } else {
+                column.get(position + base, scratch, 0, n);
+                flagOutOfRange(scratch, 0, scratch, n, min, max);
+            }
+            for (int i = 0; i < n; i++) {
+                int row = base + i;
+                words[row >>> 6] |= (long) scratch[i] << row;
+            }
+        }
+    }
+
+    /**
+     * Writes 1 to {@code flags[i]} if {@code values[offset + i]} is outside {@code [min, max]}
+     * and 0 otherwise. The loop body has no branches so that it can be auto-vectorized.
+     */
+    private static void flagOutOfRange(int[] values, int offset, int[] flags, int n, int min, int max) {
+        for (int i = 0; i < n; i++) {
+            int value = values[offset + i];
+            flags[i] = lessThan(value, min) | lessThan(max, value);
+        }
+    }
+
+    /**
+     * Returns 1 if {@code a < b} and 0 otherwise, computed without comparisons and without
+     * overflow (Hacker's Delight, 2-12).
+     */
+    private static int lessThan(int a, int b) {
+        int difference = a - b;
+        return (difference ^ ((a ^ b) & (difference ^ a))) >>> 31;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.annotations;
+
+/**
+ * A validator specialized for a single class.
+ * <p>
+ * Implementations are generated at runtime by {@link ValidatorGenerator} as hidden classes
+ * that read the annotated fields directly and compare them with inlined constants. The
+ * interface is public only because the hidden classes live in the package of the
+ * validated class and must be able to implement it.
+ * </p>
+ */
+public interface CompiledValidator {
+
+    /**
+     * Validates the specified object, which must be an instance of the class this
+     * validator was generated for.
+     *
+     * @param obj the object to be validated
+     * @throws IllegalArgumentException if any validation constraint is violated
+     * @throws IllegalStateException if a constraint is applied to a field of an unsupported type
+     */
+    void validate(Object obj);
+}
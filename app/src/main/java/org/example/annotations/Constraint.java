@@ -0,0 +1,69 @@
+package org.example.annotations;
+
+/**
+ * Structured codes for the constraints that can be violated during validation.
+ * <p>
+ * The codes are recorded by {@link ValidationResult} instead of error messages, so a
+ * violation can be reported without building any strings.
+ * </p>
+ */
+public enum Constraint {
+
+    /**
+     * The field annotated with {@link NotNull} is {@code null}.
+     */
+    NOT_NULL,
+
+    /**
+     * The length of a field annotated with {@link StringLength} is outside its bounds.
+     */
+    STRING_LENGTH,
+
+    /**
+     * The value of a field annotated with {@link MinValue} is less than its minimum.
+     * For an {@code int[]} field, the element at {@link ValidationResult#elementIndex(int)} is.
+     */
+    MIN_VALUE,
+
+    /**
+     * The value of a field annotated with {@link MaxValue} is greater than its maximum.
+     * For an {@code int[]} field, the element at {@link ValidationResult#elementIndex(int)} is.
+     */
+    MAX_VALUE,
+
+    /**
+     * The value of a field annotated with {@link StringLength} or {@link Pattern} is not a {@code String}.
+     */
+    STRING_TYPE,
+
+    /**
+     * The value of a field annotated with {@link MinValue} or {@link MaxValue} is not an {@code Integer}.
+     */
+    INTEGER_TYPE,
+
+    /**
+     * The value of a field annotated with {@link LongRange} is outside its bounds.
+     */
+    LONG_RANGE,
+
+    /**
+     * The value of a field annotated with {@link DoubleRange} is outside its bounds or {@code NaN}.
+     */
+    DOUBLE_RANGE,
+
+    /**
+     * The value of a field annotated with {@link DecimalRange} is outside its bounds.
+     */
+    DECIMAL_RANGE,
+
+    /**
+     * The field annotated with {@link LongRange}, {@link DoubleRange} or {@link DecimalRange}
+     * is not of a matching type.
+     */
+    NUMBER_TYPE,
+
+    /**
+     * The value of a field annotated with {@link Pattern} does not match its expression.
+     */
+    PATTERN
+}
@@ -0,0 +1,23 @@
+package org.example.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to specify the inclusive range of a {@link java.math.BigDecimal} field.
+ * The bounds are decimal strings compared numerically, so {@code "1.0"} equals {@code "1.00"};
+ * an empty string leaves that side unbounded. A {@code null} value is not checked;
+ * combine with {@link NotNull} to reject it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface DecimalRange {
+
+    String min() default "";
+
+    String max() default "";
+
+    Class<?>[] groups() default {};
+}
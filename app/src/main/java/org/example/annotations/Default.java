@@ -0,0 +1,10 @@
+package org.example.annotations;
+
+/**
+ * The validation group of the constraints that declare no {@code groups}.
+ * <p>
+ * Groups are plain marker interfaces; a constraint declared for group {@code A} is also
+ * checked when validating any group that extends {@code A}.
+ * </p>
+ */
+public interface Default {}
@@ -0,0 +1,134 @@
+package org.example.annotations;
+
+import java.util.Arrays;
+
+/**
+ * The {@code DirtyFields} class is a per-instance bitmask of the constrained fields that were
+ * changed since the last successful validation of an object.
+ * <p>
+ * Each bit stands for a field of the full {@link ValidationPlan} of a class, at the index
+ * returned by {@link #index(Class, String)}. Superclass fields come first in a plan, so the
+ * index of a field is the same in the plans of all subclasses. A new set has every bit set,
+ * because the object has not been validated yet; {@link Validator#revalidate(Object)} clears
+ * the bit of each field that passes its checks, and a successful {@link Validator#validate(Object)}
+ * clears all of them.
+ * </p>
+ * <p>
+ * Marking a field is a single bitwise or, so setters stay cheap. Instances are not
+ * thread-safe: an object and its dirty-field set are meant to be changed and revalidated by
+ * one thread at a time.
+ * </p>
+ */
+public final class DirtyFields {
+
+    final ValidationPlan plan;
+    private final long[] words;
+
+    /**
+     * Creates the dirty-field set of an object of the specified class, with every field dirty.
+     *
+     * @param type the class of the tracked object
+     */
+    public DirtyFields(Class<?> type) {
+        this.plan = ValidationPlan.of(type);
+        this.words = new long[(plan.checks.length + 63) >>> 6];
+        markAll();
+    }
+
+    /**
+     * Returns the index of a constrained field in the plan of a class, to be passed to {@link #mark(int)}.
+     *
+     * @param type the class declaring or inheriting the field
+     * @param fieldName the name of a constrained field
+     * @return the index of the field
+     * @throws IllegalArgumentException if the class has no such constrained field
+     */
+    public static int index(Class<?> type, String fieldName) {
+        FieldCheck[] checks = ValidationPlan.of(type).checks;
+        for (int i = 0; i < checks.length; i++) {
+            if (checks[i].field.getName().equals(fieldName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Class " + type.getSimpleName() + " has no constrained field '" + fieldName + "'.");
+    }
+
+    /**
+     * Marks a field as changed.
+     *
+     * @param index the index of the field, as returned by {@link #index(Class, String)}
+     */
+    public void mark(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Marks every field as changed, for example after the object was modified through reflection.
+     */
+    public void markAll() {
+        int count = plan.checks.length;
+        for (int i = 0; i < words.length; i++) {
+            int bits = Math.min(64, count - (i << 6));
+            words[i] = bits == 64 ? -1L : (1L << bits) - 1;
+        }
+    }
+
+    /**
+     * Returns whether any field changed since the last successful validation.
+     *
+     * @return {@code true} if a revalidation has to check at least one field
+     */
+    public boolean isDirty() {
+        for (long word : words) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the specified field changed since it last passed validation.
+     *
+     * @param index the index of the field
+     * @return {@code true} if the field is dirty
+     */
+    public boolean isDirty(int index) {
+        return (words[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Returns the index of the first dirty field at or after the specified index.
+     *
+     * @param from the index to start from
+     * @return the index of a dirty field, or {@code -1} if there is none
+     */
+    int next(int from) {
+        int i = from >>> 6;
+        if (i >= words.length) {
+            return -1;
+        }
+        long word = words[i] & -1L << from;
+        while (word == 0) {
+            if (++i == words.length) {
+                return -1;
+            }
+            word = words[i];
+        }
+        return (i << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Marks a field as valid.
+     */
+    void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Marks every field as valid.
+     */
+    void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.annotations;
+
+/**
+ * Implemented by mutable classes that record which constrained fields changed since their last
+ * successful validation, so that {@link Validator#revalidate(Object)} checks only those fields.
+ * <p>
+ * The setters of an implementing class mark the field they write in its {@link DirtyFields}.
+ * Resolving a field index builds the validation plan of the class, so the indices are best held
+ * in a nested class that is initialized on the first change:
+ * </p>
+ * <pre>{@code
+ * private static final class Fields {
+ *     static final int AGE = DirtyFields.index(Gamer.class, "age");
+ * }
+ * private final transient DirtyFields dirty = new DirtyFields(getClass());
+ *
+ * public void setAge(int age) {
+ *     this.age = age;
+ *     dirty.mark(Fields.AGE);
+ * }
+ * }</pre>
+ */
+public interface DirtyTracking {
+
+    /**
+     * Returns the changed fields of this object.
+     *
+     * @return the dirty-field set of this object, never {@code null}
+     */
+    DirtyFields dirtyFields();
+
+    /**
+     * Returns the changed fields of this object if its set already exists. Classes that create
+     * their set on the first change override this method, so that a successful validation of an
+     * object that never changed does not create one; no set means that no field was marked. Like
+     * every new set, a set created by the first change has all fields dirty, so the first
+     * revalidation after it checks the whole object.
+     *
+     * @return the dirty-field set of this object, or {@code null} if it was not created yet
+     */
+    default DirtyFields currentDirtyFields() {
+        return dirtyFields();
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to specify the inclusive range of a {@code double} or {@code Double} field,
+ * or of every element of a {@code double[]} field.
+ * {@code NaN} is always out of range. A {@code null} value is not checked;
+ * combine with {@link NotNull} to reject it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface DoubleRange {
+
+    double min() default Double.NEGATIVE_INFINITY;
+
+    double max() default Double.POSITIVE_INFINITY;
+
+    Class<?>[] groups() default {};
+}
@@ -0,0 +1,193 @@
+package org.example.annotations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The {@code FieldAccessor} class reads the value of a single field for the validator.
+ * <p>
+ * The preferred engine is built on a {@link VarHandle} obtained through
+ * {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}; its getter is adapted
+ * to exact {@code (Object)Object}, {@code (Object)int}, {@code (Object)long} and
+ * {@code (Object)double} method types, so primitive fields are read without boxing. This needs the
+ * declaring package to be open to the module of the validator. Otherwise, the accessor falls back
+ * to the plain {@link Field} path, which still reads public fields of public classes in exported
+ * packages; other fields of a closed package cannot be read at all.
+ * </p>
+ */
+abstract class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Reads the field value from the specified object, boxing primitives.
+     *
+     * @param obj the object that declares the field
+     * @return the field value
+     * @throws Exception if the value cannot be read
+     */
+    abstract Object get(Object obj) throws Exception;
+
+    /**
+     * Reads the value of an {@code int} field from the specified object without boxing.
+     *
+     * @param obj the object that declares the field
+     * @return the field value
+     * @throws Exception if the value cannot be read
+     */
+    abstract int getInt(Object obj) throws Exception;
+
+    /**
+     * Reads the value of a {@code long} field from the specified object without boxing.
+     *
+     * @param obj the object that declares the field
+     * @return the field value
+     * @throws Exception if the value cannot be read
+     */
+    abstract long getLong(Object obj) throws Exception;
+
+    /**
+     * Reads the value of a {@code double} field from the specified object without boxing.
+     *
+     * @param obj the object that declares the field
+     * @return the field value
+     * @throws Exception if the value cannot be read
+     */
+    abstract double getDouble(Object obj) throws Exception;
+
+    /**
+     * Creates an accessor for the specified field, preferring the handle-based engine.
+     *
+     * @param field the field to be read
+     * @return an accessor for the field
+     * @throws IllegalStateException if the package of the field is not open to the validator and
+     *         the field is not public
+     */
+    static FieldAccessor of(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), LOOKUP);
+            return new HandleAccessor(field, lookup.unreflectVarHandle(field));
+        } catch (IllegalAccessException | SecurityException e) {
+            if (field.trySetAccessible()) {
+                return new ReflectiveAccessor(field);
+            }
+            Class<?> type = field.getDeclaringClass();
+            String opens = moduleName(type.getModule()) + "/" + type.getPackageName() + "="
+                    + moduleName(FieldAccessor.class.getModule());
+            throw new IllegalStateException(Validator.getErrorMessage(field,
+                    "cannot be read: its package must be opened to the validator (--add-opens " + opens + ")."), e);
+        }
+    }
+
+    private static String moduleName(Module module) {
+        return module.isNamed() ? module.getName() : "ALL-UNNAMED";
+    }
+
+    /**
+     * Accessor backed by {@link Field#get(Object)}, used when handles cannot be obtained.
+     */
+    private static final class ReflectiveAccessor extends FieldAccessor {
+
+        private final Field field;
+
+        ReflectiveAccessor(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        Object get(Object obj) throws Exception {
+            return field.get(obj);
+        }
+
+        @Override
+        int getInt(Object obj) throws Exception {
+            return field.getInt(obj);
+        }
+
+        @Override
+        long getLong(Object obj) throws Exception {
+            return field.getLong(obj);
+        }
+
+        @Override
+        double getDouble(Object obj) throws Exception {
+            return field.getDouble(obj);
+        }
+    }
+
+    /**
+     * Accessor backed by the getter of a {@link VarHandle}, invoked with exact types.
+     */
+    private static final class HandleAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle intGetter;
+        private final MethodHandle longGetter;
+        private final MethodHandle doubleGetter;
+
+        HandleAccessor(Field field, VarHandle handle) {
+            MethodHandle get = handle.toMethodHandle(VarHandle.AccessMode.GET);
+            if (Modifier.isStatic(field.getModifiers())) {
+                get = MethodHandles.dropArguments(get, 0, Object.class);
+            }
+            this.getter = get.asType(MethodType.methodType(Object.class, Object.class));
+            this.intGetter = field.getType() == int.class
+                    ? get.asType(MethodType.methodType(int.class, Object.class))
+                    : null;
+            this.longGetter = field.getType() == long.class
+                    ? get.asType(MethodType.methodType(long.class, Object.class))
+                    : null;
+            this.doubleGetter = field.getType() == double.class
+                    ? get.asType(MethodType.methodType(double.class, Object.class))
+                    : null;
+        }
+
+        @Override
+        Object get(Object obj) throws Exception {
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        int getInt(Object obj) throws Exception {
+            try {
+                return (int) intGetter.invokeExact(obj);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        long getLong(Object obj) throws Exception {
+            try {
+                return (long) longGetter.invokeExact(obj);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        double getDouble(Object obj) throws Exception {
+            try {
+                return (double) doubleGetter.invokeExact(obj);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * The {@code FieldCheck} class holds the parsed constraints of a single annotated field.
+ * <p>
+ * Instances are created once per field by {@link ValidationPlan}, so the annotation
+ * values ({@link NotNull}, {@link StringLength}, {@link Pattern}, {@link MinValue} and
+ * {@link MaxValue}) are read only when the plan is built and never again during validation.
+ * </p>
+ * <p>
+ * Typed ranges ({@link LongRange}, {@link DoubleRange}, {@link DecimalRange}) and
+ * element-wise ranges of {@code int[]} fields are handled by a specialized {@link #numeric} checker,
+ * which also covers {@link NotNull}. A field with such a checker may carry no other constraint:
+ * a second range or a string constraint is rejected when the check is created, so that no
+ * constraint is silently skipped.
+ * </p>
+ * <p>
+ * The error message of every constraint the field can violate is taken from the
+ * {@link MessageCatalog} when the check is created, so failures return a constant.
+ * </p>
+ */
+final class FieldCheck {
+
+    final Field field;
+    final FieldAccessor accessor;
+    final boolean intField;
+
+    final boolean notNull;
+
+    final boolean hasLength;
+    final int minLength;
+    final int maxLength;
+
+    final StringMatcher pattern;
+
+    final boolean hasMin;
+    final int min;
+
+    final boolean hasMax;
+    final int max;
+
+    final NumericCheck numeric;
+
+    private final String[] messages;
+
+    /**
+     * Parses the constraint annotations of the specified field.
+     *
+     * @param field the annotated field
+     */
+    FieldCheck(Field field) {
+        this(field, null);
+    }
+
+    /**
+     * Parses the constraint annotations of the specified field that belong to a validation group.
+     *
+     * @param field the annotated field
+     * @param group the validation group, or {@code null} for all constraints
+     */
+    FieldCheck(Field field, Class<?> group) {
+        this.field = field;
+        this.accessor = FieldAccessor.of(field);
+        this.intField = field.getType() == int.class;
+        this.notNull = inGroup(field.getAnnotation(NotNull.class), group) != null;
+
+        StringLength length = inGroup(field.getAnnotation(StringLength.class), group);
+        this.hasLength = length != null;
+        this.minLength = length != null ? length.min() : 0;
+        this.maxLength = length != null ? length.max() : Integer.MAX_VALUE;
+
+        Pattern regexp = inGroup(field.getAnnotation(Pattern.class), group);
+        try {
+            this.pattern = regexp != null ? StringMatcher.of(regexp.regexp(), regexp.flags()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(Validator.getErrorMessage(field, "has an invalid @Pattern expression."), e);
+        }
+
+        MinValue minValue = inGroup(field.getAnnotation(MinValue.class), group);
+        this.hasMin = minValue != null;
+        this.min = minValue != null ? minValue.value() : Integer.MIN_VALUE;
+
+        MaxValue maxValue = inGroup(field.getAnnotation(MaxValue.class), group);
+        this.hasMax = maxValue != null;
+        this.max = maxValue != null ? maxValue.value() : Integer.MAX_VALUE;
+
+        this.numeric = NumericCheck.of(field, accessor, notNull, group);
+        if (numeric != null) {
+            rejectUncovered(group);
+        }
+        this.messages = MessageCatalog.messages(this);
+    }
+
+    /**
+     * Rejects the constraints that the {@link #numeric} checker does not cover: a second range,
+     * {@link MinValue} or {@link MaxValue} next to a typed range, and {@link StringLength} or
+     * {@link Pattern}, which a numeric field can never satisfy.
+     *
+     * @param group the validation group, or {@code null} for all constraints
+     * @throws IllegalStateException if the field combines such constraints
+     */
+    private void rejectUncovered(Class<?> group) {
+        String range = null;
+        for (Annotation annotation : new Annotation[]{
+                inGroup(field.getAnnotation(LongRange.class), group),
+                inGroup(field.getAnnotation(DoubleRange.class), group),
+                inGroup(field.getAnnotation(DecimalRange.class), group)}) {
+            if (annotation == null) {
+                continue;
+            }
+            String name = "@" + annotation.annotationType().getSimpleName();
+            if (range != null) {
+                throw conflict(range, name);
+            }
+            range = name;
+        }
+        String intRange = hasMin ? "@MinValue" : "@MaxValue";
+        if (range != null && hasRange()) {
+            throw conflict(range, intRange);
+        }
+        if (range == null) {
+            range = intRange;
+        }
+        if (hasLength) {
+            throw conflict(range, "@StringLength");
+        }
+        if (pattern != null) {
+            throw conflict(range, "@Pattern");
+        }
+    }
+
+    private IllegalStateException conflict(String first, String second) {
+        return new IllegalStateException(Validator.getErrorMessage(field, "cannot combine " + first + " with " + second + "."));
+    }
+
+    /**
+     * Returns the precomputed message of a violation of the specified constraint.
+     *
+     * @param constraint the violated constraint
+     * @return the error message, or {@code null} if the field cannot violate the constraint
+     */
+    String message(Constraint constraint) {
+        return messages[constraint.ordinal()];
+    }
+
+    /**
+     * Returns {@code true} if the field carries at least one numeric range constraint.
+     *
+     * @return whether {@link MinValue} or {@link MaxValue} is present
+     */
+    boolean hasRange() {
+        return hasMin || hasMax;
+    }
+
+    /**
+     * Returns {@code true} if at least one constraint of the field applies.
+     *
+     * @return whether the check can fail
+     */
+    boolean isActive() {
+        return notNull || hasLength || pattern != null || hasRange() || numeric != null;
+    }
+
+    /**
+     * Returns the annotation if it belongs to the specified group, and {@code null} otherwise.
+     *
+     * @param annotation a constraint annotation, or {@code null}
+     * @param group the validation group, or {@code null} for all constraints
+     * @return the annotation, or {@code null}
+     */
+    static <A extends Annotation> A inGroup(A annotation, Class<?> group) {
+        if (annotation == null || group == null) {
+            return annotation;
+        }
+        Class<?>[] groups = switch (annotation) {
+            case NotNull a -> a.groups();
+            case StringLength a -> a.groups();
+            case Pattern a -> a.groups();
+            case MinValue a -> a.groups();
+            case MaxValue a -> a.groups();
+            case LongRange a -> a.groups();
+            case DoubleRange a -> a.groups();
+            case DecimalRange a -> a.groups();
+            default -> throw new IllegalStateException("Annotation @" + annotation.annotationType().getSimpleName()
+                    + " is not a constraint.");
+        };
+        return inGroup(groups, group) ? annotation : null;
+    }
+
+    /**
+     * Returns whether a constraint declared for the specified groups is checked in a group.
+     * A constraint without groups belongs to {@link Default}; a declared group also covers
+     * the groups extending it.
+     *
+     * @param groups the groups declared on the constraint
+     * @param group the validation group, or {@code null} for all constraints
+     * @return whether the constraint applies
+     */
+    static boolean inGroup(Class<?>[] groups, Class<?> group) {
+        if (group == null) {
+            return true;
+        }
+        if (groups.length == 0) {
+            return Default.class.isAssignableFrom(group);
+        }
+        for (Class<?> declared : groups) {
+            if (declared.isAssignableFrom(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the specified field carries any supported constraint annotation.
+     *
+     * @param field the field to inspect
+     * @return whether the field should be part of a validation plan
+     */
+    static boolean isConstrained(Field field) {
+        return field.isAnnotationPresent(NotNull.class)
+                || field.isAnnotationPresent(StringLength.class)
+                || field.isAnnotationPresent(Pattern.class)
+                || field.isAnnotationPresent(MinValue.class)
+                || field.isAnnotationPresent(MaxValue.class)
+                || field.isAnnotationPresent(LongRange.class)
+                || field.isAnnotationPresent(DoubleRange.class)
+                || field.isAnnotationPresent(DecimalRange.class);
+    }
+}
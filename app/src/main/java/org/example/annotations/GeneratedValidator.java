@@ -0,0 +1,20 @@
+package org.example.annotations;
+
+/**
+ * A {@link CompiledValidator} generated at build time by the validator annotation processor.
+ * <p>
+ * Generated classes are registered in
+ * {@code META-INF/services/org.example.annotations.GeneratedValidator} and picked up by
+ * {@link ValidatorRegistry}, so {@link Validator#validate(Object)} can run them without
+ * any reflection or runtime code generation.
+ * </p>
+ */
+public interface GeneratedValidator extends CompiledValidator {
+
+    /**
+     * Returns the class validated by this validator.
+     *
+     * @return the validated class
+     */
+    Class<?> type();
+}
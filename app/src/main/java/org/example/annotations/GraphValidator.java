@@ -0,0 +1,128 @@
+package org.example.annotations;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code GraphValidator} class validates the objects reachable from a root through
+ * {@link Valid} fields.
+ * <p>
+ * The graph is walked breadth-first with an explicit queue instead of recursion, so deep
+ * graphs cannot overflow the stack. Every object and container is entered at most once,
+ * tracked by identity rather than {@code equals}, so cycles terminate and shared objects are
+ * validated once. Arrays, {@link Iterable}s and {@link Map}s are expanded into their elements
+ * or values; a container class that declares constraints or {@link Valid} fields of its own is
+ * validated as an object as well, before its elements. The root itself is validated by the caller. When the root plan belongs to a
+ * validation group, reachable objects are validated with the same group.
+ * </p>
+ */
+final class GraphValidator {
+
+    private final ArrayDeque<Object> pending = new ArrayDeque<>();
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Class<?> group;
+
+    private GraphValidator(Object root, ValidationPlan plan) {
+        this.group = plan.group;
+        visited.add(root);
+        enqueueCascades(root, plan);
+    }
+
+    /**
+     * Validates the objects reachable from the root, throwing on the first violation.
+     *
+     * @param root the already validated root
+     * @param plan the plan of the root
+     * @throws Exception if a reachable object violates a constraint
+     */
+    static void validate(Object root, ValidationPlan plan) throws Exception {
+        GraphValidator graph = new GraphValidator(root, plan);
+        for (Object node = graph.next(); node != null; node = graph.next()) {
+            if (graph.group == null) {
+                Validator.validateObject(node);
+            } else {
+                Validator.validatePlan(node, graph.planOf(node));
+            }
+        }
+    }
+
+    /**
+     * Records the violations of the objects reachable from the root into the result.
+     *
+     * @param root the already validated root
+     * @param plan the plan of the root
+     * @param result the result holding the violations of the root
+     * @return {@code true} if the whole graph satisfies all constraints
+     */
+    static boolean collect(Object root, ValidationPlan plan, ValidationResult result) {
+        GraphValidator graph = new GraphValidator(root, plan);
+        for (Object node = graph.next(); node != null; node = graph.next()) {
+            ValidationPlan nodePlan = graph.planOf(node);
+            result.enter(nodePlan);
+            if (!Validator.collectObject(node, nodePlan, result) && !result.isCollectAll()) {
+                return false;
+            }
+        }
+        return result.isValid();
+    }
+
+    /**
+     * Returns the next object to validate, after queueing the objects it cascades to.
+     */
+    private Object next() {
+        for (Object node = pending.poll(); node != null; node = pending.poll()) {
+            if (node instanceof Object[] array) {
+                for (Object element : array) {
+                    enqueue(element);
+                }
+                continue;
+            }
+            ValidationPlan plan = planOf(node);
+            if (node instanceof Iterable<?> iterable) {
+                for (Object element : iterable) {
+                    enqueue(element);
+                }
+            } else if (node instanceof Map<?, ?> map) {
+                for (Object value : map.values()) {
+                    enqueue(value);
+                }
+            } else {
+                enqueueCascades(node, plan);
+                return node;
+            }
+            if (plan.checks.length > 0 || plan.cascades.length > 0) {
+                // The queued elements are validated after the container itself.
+                enqueueCascades(node, plan);
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private ValidationPlan planOf(Object node) {
+        return group == null ? ValidationPlan.of(node.getClass()) : ValidationPlan.of(node.getClass(), group);
+    }
+
+    private void enqueueCascades(Object obj, ValidationPlan plan) {
+        for (int i = 0; i < plan.cascades.length; i++) {
+            Object value;
+            try {
+                value = plan.cascades[i].get(obj);
+            } catch (Exception e) {
+                Field field = plan.cascadeFields[i];
+                throw new IllegalStateException(Validator.getErrorMessage(field, "cannot be read."), e);
+            }
+            enqueue(value);
+        }
+    }
+
+    private void enqueue(Object value) {
+        if (value != null && visited.add(value)) {
+            pending.add(value);
+        }
+    }
+}
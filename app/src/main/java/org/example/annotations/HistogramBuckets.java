@@ -0,0 +1,94 @@
+package org.example.annotations;
+
+/**
+ * The {@code HistogramBuckets} class maps durations to log-linear histogram buckets, in the
+ * manner of HdrHistogram.
+ * <p>
+ * Every power of two is split into {@code 2^subBucketBits} linear buckets, so the relative error
+ * of a percentile is below {@code 2^-subBucketBits}. The class only holds the bucket layout; the
+ * counts are kept by the histogram using it, which is free to choose its own synchronization.
+ * </p>
+ */
+public final class HistogramBuckets {
+
+    private final int subBucketBits;
+    private final int subBuckets;
+    private final int count;
+
+    /**
+     * Creates the bucket layout with the specified precision.
+     *
+     * @param subBucketBits the number of bits of a value kept below its highest set bit, between 1 and 16
+     * @throws IllegalArgumentException if the number of bits is out of range
+     */
+    public HistogramBuckets(int subBucketBits) {
+        if (subBucketBits < 1 || subBucketBits > 16) {
+            throw new IllegalArgumentException("Sub-bucket bits must be between 1 and 16.");
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBuckets = 1 << subBucketBits;
+        this.count = (64 - subBucketBits + 1) * subBuckets;
+    }
+
+    /**
+     * Returns the number of buckets, which covers every non-negative {@code long}.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the bucket of a value.
+     *
+     * @param value the non-negative value
+     * @return the index of the bucket
+     */
+    public int index(long value) {
+        if (value < subBuckets) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - subBucketBits;
+        int subBucket = (int) (value >>> shift) & (subBuckets - 1);
+        return (shift + 1) * subBuckets + subBucket;
+    }
+
+    /**
+     * Returns the largest value of a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the inclusive upper bound of the bucket
+     */
+    public long upperBound(int index) {
+        if (index < subBuckets) {
+            return index;
+        }
+        int shift = index / subBuckets - 1;
+        long lower = (long) (subBuckets + index % subBuckets) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the specified percentile.
+     *
+     * @param counts the counts of the buckets
+     * @param total the sum of the counts
+     * @param max the largest recorded value, which caps the result
+     * @param percentile the percentile, between 0 and 100
+     * @return the value of the percentile, or 0 if nothing was recorded
+     */
+    public long percentile(long[] counts, long total, long max, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+}
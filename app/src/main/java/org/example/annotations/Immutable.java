@@ -0,0 +1,15 @@
+package org.example.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to specify that the constrained fields of a class never change after construction,
+ * so {@link ValidationCache} may remember its successful validations by value. Classes that also
+ * have {@link Valid} fields are still remembered by identity.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Immutable {}
@@ -0,0 +1,81 @@
+package org.example.annotations;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LatencyHistogram} class records durations in log-linear buckets.
+ * <p>
+ * Every power of two is split into 8 linear {@link HistogramBuckets}, which bounds the
+ * relative error of a percentile to 12.5%. Buckets are {@link LongAdder}s, so recording from
+ * many threads does not contend on a shared cache line.
+ * </p>
+ */
+final class LatencyHistogram {
+
+    private static final HistogramBuckets LAYOUT = new HistogramBuckets(3);
+    private static final int BUCKETS = LAYOUT.count();
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration; negative values are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[LAYOUT.index(value)].increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the specified percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return LAYOUT.percentile(counts, count, max(), percentile);
+    }
+
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to specify the inclusive range of a {@code long} or {@code Long} field,
+ * or of every element of a {@code long[]} field.
+ * A {@code null} value is not checked; combine with {@link NotNull} to reject it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface LongRange {
+
+    long min() default Long.MIN_VALUE;
+
+    long max() default Long.MAX_VALUE;
+
+    Class<?>[] groups() default {};
+}
@@ -0,0 +1,294 @@
+package org.example.annotations;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * The {@code MappedRecordValidator} class validates fixed-layout binary records directly in a
+ * memory-mapped file, without decoding them into objects.
+ * <p>
+ * The record layout is derived from the non-transient instance fields of an annotated class and its
+ * superclasses, superclass fields first, each in declaration order:
+ * </p>
+ * <ul>
+ *     <li>{@code int} — a 4-byte integer;</li>
+ *     <li>{@code Integer} — a presence byte ({@code 0} for {@code null}) followed by a 4-byte integer;</li>
+ *     <li>{@code String} — a presence byte, an unsigned 2-byte length and a fixed number of bytes
+ *     (the capacity) holding the characters.</li>
+ * </ul>
+ * <p>
+ * The capacity of a string defaults to the maximum of its {@link StringLength} annotation and can be
+ * set with {@link #capacity(String, int)}. {@link NotNull} is checked against the presence byte,
+ * {@link StringLength} against the length prefix, and {@link MinValue}/{@link MaxValue} against the
+ * integer. The file is mapped in windows of whole records, so files larger than 2 GB are supported,
+ * and the offset of every invalid record is passed to a {@link LongConsumer}, so no heap object is
+ * created per record.
+ * </p>
+ * <pre>{@code
+ * long invalid = MappedRecordValidator.of(Gamer.class)
+ *         .capacity("username", 32)
+ *         .validate(path, offset -> log.reject(offset));
+ * }</pre>
+ */
+public final class MappedRecordValidator {
+
+    private static final int INT = 0;
+    private static final int INTEGER = 1;
+    private static final int STRING = 2;
+
+    private static final int MAX_CAPACITY = 0xFFFF;
+
+    private final Class<?> type;
+    private final ValidationPlan plan;
+    private final Map<String, Integer> capacities = new HashMap<>();
+    private ByteOrder order = ByteOrder.BIG_ENDIAN;
+
+    private MappedRecordValidator(Class<?> type) {
+        this.type = type;
+        this.plan = ValidationPlan.of(type);
+    }
+
+    /**
+     * Creates a validator for records laid out after the fields of the specified class.
+     *
+     * @param type the annotated class describing the record
+     * @return a validator with big-endian byte order
+     */
+    public static MappedRecordValidator of(Class<?> type) {
+        return new MappedRecordValidator(type);
+    }
+
+    /**
+     * Sets the number of bytes reserved for a string field in each record.
+     *
+     * @param fieldName the name of a {@code String} field
+     * @param capacity the capacity of the field, at most 65535
+     * @return this validator
+     */
+    public MappedRecordValidator capacity(String fieldName, int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY + ", was " + capacity + ".");
+        }
+        capacities.put(fieldName, capacity);
+        return this;
+    }
+
+    /**
+     * Sets the byte order of the integers and length prefixes.
+     *
+     * @param order the byte order of the records
+     * @return this validator
+     */
+    public MappedRecordValidator order(ByteOrder order) {
+        this.order = order;
+        return this;
+    }
+
+    /**
+     * Returns the size of a single record in bytes.
+     *
+     * @return the record size
+     * @throws IllegalStateException if the layout cannot be derived from the class
+     */
+    public int recordSize() {
+        return layout().recordSize;
+    }
+
+    /**
+     * Maps the specified file and validates every record in it.
+     *
+     * @param file the file of fixed-size records
+     * @param invalidRecords receives the byte offset of every invalid record, in file order
+     * @return the number of invalid records
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file size is not a multiple of the record size
+     */
+    public long validate(Path file, LongConsumer invalidRecords) throws IOException {
+        Layout layout = layout();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % layout.recordSize != 0) {
+                throw new IllegalArgumentException("File size " + size + " is not a multiple of the record size "
+                        + layout.recordSize + " of class " + type.getSimpleName() + ".");
+            }
+            long window = (long) (Integer.MAX_VALUE / layout.recordSize) * layout.recordSize;
+            long invalid = 0;
+            for (long position = 0; position < size; position += window) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(window, size - position));
+                invalid += validate(layout, buffer, position, invalidRecords);
+            }
+            return invalid;
+        }
+    }
+
+    /**
+     * Validates the records between position and limit of the specified buffer.
+     *
+     * @param buffer the records, for example a mapped window of a file
+     * @param baseOffset the offset reported for the first record of the buffer
+     * @param invalidRecords receives the offset of every invalid record
+     * @return the number of invalid records
+     * @throws IllegalArgumentException if the remaining bytes are not a multiple of the record size
+     */
+    public long validate(ByteBuffer buffer, long baseOffset, LongConsumer invalidRecords) {
+        Layout layout = layout();
+        ByteBuffer records = buffer.slice();
+        if (records.remaining() % layout.recordSize != 0) {
+            throw new IllegalArgumentException("Buffer size " + records.remaining()
+                    + " is not a multiple of the record size " + layout.recordSize + ".");
+        }
+        return validate(layout, records, baseOffset, invalidRecords);
+    }
+
+    private long validate(Layout layout, ByteBuffer buffer, long baseOffset, LongConsumer invalidRecords) {
+        buffer.order(order);
+        int end = buffer.limit();
+        long invalid = 0;
+        for (int record = 0; record < end; record += layout.recordSize) {
+            if (!isValid(layout, buffer, record)) {
+                invalidRecords.accept(baseOffset + record);
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    private static boolean isValid(Layout layout, ByteBuffer buffer, int record) {
+        for (int i = 0; i < layout.checks.length; i++) {
+            FieldCheck check = layout.checks[i];
+            int offset = record + layout.offsets[i];
+            switch (layout.kinds[i]) {
+                case INT -> {
+                    if (!inRange(check, buffer.getInt(offset))) {
+                        return false;
+                    }
+                }
+                case INTEGER -> {
+                    if (buffer.get(offset) == 0) {
+                        if (check.notNull || check.hasRange()) {
+                            return false;
+                        }
+                    } else if (!inRange(check, buffer.getInt(offset + 1))) {
+                        return false;
+                    }
+                }
+                default -> {
+                    if (buffer.get(offset) == 0) {
+                        if (check.notNull || check.hasLength) {
+                            return false;
+                        }
+                        continue;
+                    }
+                    int length = Short.toUnsignedInt(buffer.getShort(offset + 1));
+                    if (length > layout.capacities[i]) {
+                        return false;
+                    }
+                    if (check.hasLength && (length < check.minLength || length > check.maxLength)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean inRange(FieldCheck check, int value) {
+        return !(check.hasMax && value > check.max) && !(check.hasMin && value < check.min);
+    }
+
+    /**
+     * Computes the offsets of the constrained fields from all instance fields of the class.
+     */
+    private Layout layout() {
+        Map<Field, FieldCheck> constrained = new HashMap<>();
+        for (FieldCheck check : plan.checks) {
+            constrained.put(check.field, check);
+        }
+
+        int size = 0;
+        int count = 0;
+        FieldCheck[] checks = new FieldCheck[plan.checks.length];
+        int[] offsets = new int[checks.length];
+        int[] kinds = new int[checks.length];
+        int[] fieldCapacities = new int[checks.length];
+        for (Field field : hierarchyFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            FieldCheck check = constrained.get(field);
+            int kind;
+            int capacity = 0;
+            int width;
+            if (field.getType() == int.class) {
+                kind = INT;
+                width = Integer.BYTES;
+            } else if (field.getType() == Integer.class) {
+                kind = INTEGER;
+                width = 1 + Integer.BYTES;
+            } else if (field.getType() == String.class) {
+                kind = STRING;
+                capacity = capacityOf(field, check);
+                width = 1 + Short.BYTES + capacity;
+            } else {
+                throw new IllegalStateException("Field '" + field.getName() + "' in class " + type.getSimpleName()
+                        + " has type " + field.getType().getSimpleName() + ", which has no binary layout.");
+            }
+            if (check != null && check.pattern != null) {
+                throw new IllegalStateException(Validator.getErrorMessage(field,
+                        "has a @Pattern constraint, which cannot be checked on the binary layout."));
+            }
+            if (check != null) {
+                checks[count] = check;
+                offsets[count] = size;
+                kinds[count] = kind;
+                fieldCapacities[count] = capacity;
+                count++;
+            }
+            size += width;
+        }
+        if (size == 0) {
+            throw new IllegalStateException("Class " + type.getSimpleName() + " has no fields to lay out.");
+        }
+        return new Layout(size, checks, offsets, kinds, fieldCapacities);
+    }
+
+    private List<Field> hierarchyFields() {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            fields.addAll(0, Arrays.asList(c.getDeclaredFields()));
+        }
+        return fields;
+    }
+
+    private int capacityOf(Field field, FieldCheck check) {
+        Integer capacity = capacities.get(field.getName());
+        if (capacity != null) {
+            return capacity;
+        }
+        if (check != null && check.hasLength && check.maxLength <= MAX_CAPACITY) {
+            return check.maxLength;
+        }
+        throw new IllegalStateException("Field '" + field.getName() + "' in class " + type.getSimpleName()
+                + " needs a capacity; set it with capacity(\"" + field.getName() + "\", bytes).");
+    }
+
+    /**
+     * The offsets and kinds of the constrained fields within a record.
+     */
+    private record Layout(int recordSize, FieldCheck[] checks, int[] offsets, int[] kinds, int[] capacities) {
+    }
+}
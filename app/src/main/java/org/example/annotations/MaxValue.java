@@ -13,4 +13,6 @@ import java.lang.annotation.Target;
 public @interface MaxValue {
 
     int value();
+
+    Class<?>[] groups() default {};
 }
\ No newline at end of file
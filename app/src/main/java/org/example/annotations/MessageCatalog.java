@@ -0,0 +1,218 @@
+package org.example.annotations;
+
+/**
+ * The {@code MessageCatalog} class holds the wording of the error message of every
+ * (class, field, constraint) combination, shared by all validation paths.
+ * <p>
+ * Annotated fields get their messages when their {@link ValidationPlan} is built, and keep them
+ * with the plan of their class, so {@link Validator#validate(Object)} and
+ * {@link ValidationResult#message(int)} only return a precomputed constant on failure; only the
+ * element index of an array violation is formatted on demand. Hand-written validators and the
+ * validators generated at build time use the same wording through {@link #notNull(Class, String)},
+ * {@link #length(Class, String, int, int)}, {@link #range(Class, String, long, long)} and the
+ * other factories, typically once into {@code static final} constants:
+ * </p>
+ * <pre>{@code
+ * private static final String MODEL_NULL = MessageCatalog.notNull(Plane.class, "model");
+ * }</pre>
+ * <p>
+ * The factories format a new message on every call and the catalog keeps no references to the
+ * classes it names, so they can still be unloaded. The structured {@link Constraint} code of a
+ * message is available through {@link ValidationResult}.
+ * </p>
+ */
+public final class MessageCatalog {
+
+    private static final String INTEGER_TYPE_REASON = "is not of type Integer for numeric validation.";
+
+    private MessageCatalog() {
+    }
+
+    /**
+     * Returns the message thrown when a constraint declared on a field of an annotated class is violated.
+     *
+     * @param type the annotated class
+     * @param fieldName the name of a constrained field of the class or of its superclasses
+     * @param constraint the violated constraint
+     * @return the error message
+     * @throws IllegalArgumentException if the field is unknown or the constraint is not declared on it
+     */
+    public static String message(Class<?> type, String fieldName, Constraint constraint) {
+        for (FieldCheck check : ValidationPlan.of(type).checks) {
+            if (check.field.getName().equals(fieldName)) {
+                String message = check.message(constraint);
+                if (message == null) {
+                    throw new IllegalArgumentException(Validator.getErrorMessage(check.field,
+                            "has no constraint reported as " + constraint + "."));
+                }
+                return message;
+            }
+        }
+        throw new IllegalArgumentException("Class " + type.getSimpleName() + " has no constrained field '" + fieldName + "'.");
+    }
+
+    /**
+     * Returns the message of a {@code null} value.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @return the error message
+     */
+    public static String notNull(Class<?> type, String fieldName) {
+        return message(type, fieldName, "cannot be null.");
+    }
+
+    /**
+     * Returns the message of a string length outside {@code [min, max]}.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @param min the minimum length
+     * @param max the maximum length
+     * @return the error message
+     */
+    public static String length(Class<?> type, String fieldName, int min, int max) {
+        return message(type, fieldName, lengthReason(min, max));
+    }
+
+    /**
+     * Returns the message of a value less than its minimum.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @param min the minimum value
+     * @return the error message
+     */
+    public static String minValue(Class<?> type, String fieldName, long min) {
+        return message(type, fieldName, minReason(min));
+    }
+
+    /**
+     * Returns the message of a value greater than its maximum.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @param max the maximum value
+     * @return the error message
+     */
+    public static String maxValue(Class<?> type, String fieldName, long max) {
+        return message(type, fieldName, maxReason(max));
+    }
+
+    /**
+     * Returns the message of a {@link StringLength} or {@link Pattern} field that does not hold a string.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @param annotation the simple name of the annotation, such as {@code "StringLength"}
+     * @return the error message
+     */
+    public static String stringType(Class<?> type, String fieldName, String annotation) {
+        return message(type, fieldName, stringTypeReason(annotation));
+    }
+
+    /**
+     * Returns the message of a {@link MinValue} or {@link MaxValue} field that does not hold an integer.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @return the error message
+     */
+    public static String integerType(Class<?> type, String fieldName) {
+        return message(type, fieldName, INTEGER_TYPE_REASON);
+    }
+
+    /**
+     * Returns the message of a value outside {@code [min, max]}, worded like a {@link LongRange} violation.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @param min the minimum value
+     * @param max the maximum value
+     * @return the error message
+     */
+    public static String range(Class<?> type, String fieldName, long min, long max) {
+        return message(type, fieldName, NumericCheck.rangeReason(min, max));
+    }
+
+    /**
+     * Returns the message of a violation with a custom reason, for constraints the annotations cannot express.
+     *
+     * @param type the class declaring the field
+     * @param fieldName the name of the field
+     * @param reason the reason, such as {@code "cannot be empty."}
+     * @return the error message
+     */
+    public static String message(Class<?> type, String fieldName, String reason) {
+        return "Field '" + fieldName + "' in class " + type.getSimpleName() + " " + reason;
+    }
+
+    /**
+     * Builds the messages of every constraint that the specified check can report, indexed by
+     * {@link Constraint#ordinal()}; the entries of other constraints are {@code null}.
+     *
+     * @param check the parsed constraints of a field
+     * @return the messages of the field
+     */
+    static String[] messages(FieldCheck check) {
+        String[] messages = new String[Constraint.values().length];
+        for (Constraint constraint : Constraint.values()) {
+            if (applies(check, constraint)) {
+                int bound = constraint == Constraint.MIN_VALUE ? check.min : check.max;
+                messages[constraint.ordinal()] = message(check.field.getDeclaringClass(), check.field.getName(),
+                        reason(check, constraint, bound));
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Formats the reason of a violation, without the field prefix.
+     *
+     * @param check the parsed constraints of the violated field
+     * @param constraint the violated constraint
+     * @param bound the violated bound of {@link Constraint#MIN_VALUE} and {@link Constraint#MAX_VALUE}
+     * @return the reason
+     */
+    static String reason(FieldCheck check, Constraint constraint, int bound) {
+        return switch (constraint) {
+            case NOT_NULL -> "cannot be null.";
+            case STRING_LENGTH -> lengthReason(check.minLength, check.maxLength);
+            case MIN_VALUE -> minReason(bound);
+            case MAX_VALUE -> maxReason(bound);
+            case STRING_TYPE -> stringTypeReason(check.hasLength ? "StringLength" : "Pattern");
+            case INTEGER_TYPE -> INTEGER_TYPE_REASON;
+            case LONG_RANGE, DOUBLE_RANGE, DECIMAL_RANGE, NUMBER_TYPE -> check.numeric.reason();
+            case PATTERN -> "must match pattern " + check.pattern.regexp + ".";
+        };
+    }
+
+    private static boolean applies(FieldCheck check, Constraint constraint) {
+        return switch (constraint) {
+            case NOT_NULL -> check.notNull;
+            case STRING_LENGTH -> check.hasLength;
+            case MIN_VALUE -> check.hasMin;
+            case MAX_VALUE -> check.hasMax;
+            case STRING_TYPE -> check.hasLength || check.pattern != null;
+            case INTEGER_TYPE -> check.hasRange();
+            case LONG_RANGE, DOUBLE_RANGE, DECIMAL_RANGE, NUMBER_TYPE -> check.numeric != null;
+            case PATTERN -> check.pattern != null;
+        };
+    }
+
+    private static String stringTypeReason(String annotation) {
+        return "is not of type String for @" + annotation + ".";
+    }
+
+    private static String lengthReason(int min, int max) {
+        return "must have length between " + min + " and " + max + ".";
+    }
+
+    private static String minReason(long min) {
+        return "must be greater than or equal to " + min + ".";
+    }
+
+    private static String maxReason(long max) {
+        return "must be less than or equal to " + max + ".";
+    }
+}
@@ -13,4 +13,6 @@ import java.lang.annotation.Target;
 public @interface MinValue {
 
     int value();
+
+    Class<?>[] groups() default {};
 }
@@ -10,4 +10,7 @@ import java.lang.annotation.Target;
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
-public @interface NotNull {}
+public @interface NotNull {
+
+    Class<?>[] groups() default {};
+}
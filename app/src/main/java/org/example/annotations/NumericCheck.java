@@ -0,0 +1,525 @@
+package org.example.annotations;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+
+/**
+ * The {@code NumericCheck} class is a range checker specialized for one numeric field type.
+ * <p>
+ * It covers {@code long}, {@code double} and {@link BigDecimal} fields and their boxed forms
+ * ({@link LongRange}, {@link DoubleRange}, {@link DecimalRange}), as well as the element-wise
+ * checks of {@code int[]}, {@code long[]} and {@code double[]} fields. Primitive fields are read
+ * through {@link FieldAccessor#getLong(Object)} and {@link FieldAccessor#getDouble(Object)}, and
+ * arrays are scanned in a loop over the primitive elements, so nothing is boxed. The array loop
+ * only computes the minimum and maximum element, a reduction C2 can vectorize; the index of the
+ * first offending element is searched for only when one of them is out of range.
+ * </p>
+ * {@link #test(Object)} returns {@link #VALID}, {@link #NULL}, {@link #TYPE}, {@link #SCALAR}
+ * for an out-of-range value, or a code of the first out-of-range array element. The code describes
+ * the whole violation, so {@link #constraint(int)}, {@link #bound(int)} and {@link #element(int)}
+ * never read the field again: a concurrent change of the field cannot alter the report.
+ */
+abstract class NumericCheck {
+
+    static final int VALID = -1;
+    static final int NULL = -2;
+    static final int TYPE = -3;
+    static final int SCALAR = -4;
+
+    final FieldAccessor accessor;
+    final boolean notNull;
+
+    NumericCheck(FieldAccessor accessor, boolean notNull) {
+        this.accessor = accessor;
+        this.notNull = notNull;
+    }
+
+    /**
+     * Checks the field of the specified object.
+     *
+     * @param obj the object that declares the field
+     * @return {@link #VALID}, or the code of the violation
+     * @throws Exception if the field cannot be read
+     */
+    abstract int test(Object obj) throws Exception;
+
+    /**
+     * Returns the constraint violated according to the code returned by {@link #test(Object)}.
+     */
+    Constraint constraint(int code) {
+        return switch (code) {
+            case NULL -> Constraint.NOT_NULL;
+            case TYPE -> Constraint.NUMBER_TYPE;
+            default -> rangeConstraint(code);
+        };
+    }
+
+    /**
+     * Returns the constraint of an out-of-range value or element.
+     */
+    abstract Constraint rangeConstraint(int code);
+
+    /**
+     * Returns the violated {@code int} bound, or {@code 0} for bounds that are reported in the message only.
+     */
+    int bound(int code) {
+        return 0;
+    }
+
+    /**
+     * Returns the index of the offending array element, or {@code -1} for a scalar violation.
+     */
+    int element(int code) {
+        return Math.max(code, -1);
+    }
+
+    /**
+     * Returns the reason of a violation of the annotation handled by this checker, such as
+     * {@code "must be between 0 and 10."}, or of a type mismatch.
+     */
+    abstract String reason();
+
+    /**
+     * Creates the specialized checker of a field, or returns {@code null} if the field has
+     * no constraint handled here.
+     *
+     * @param field the annotated field
+     * @param accessor the accessor of the field
+     * @param notNull whether the field is annotated with {@link NotNull}
+     * @param group the validation group, or {@code null} for all constraints
+     * @return the checker, or {@code null}
+     */
+    static NumericCheck of(Field field, FieldAccessor accessor, boolean notNull, Class<?> group) {
+        Class<?> type = field.getType();
+        LongRange longRange = FieldCheck.inGroup(field.getAnnotation(LongRange.class), group);
+        if (longRange != null) {
+            if (type == long.class) {
+                return new LongValue(accessor, longRange.min(), longRange.max());
+            }
+            if (type == Long.class) {
+                return new BoxedLong(accessor, notNull, longRange.min(), longRange.max());
+            }
+            if (type == long[].class) {
+                return new LongArray(accessor, notNull, longRange.min(), longRange.max());
+            }
+            return new Mismatch(accessor, notNull, "long", "LongRange");
+        }
+        DoubleRange doubleRange = FieldCheck.inGroup(field.getAnnotation(DoubleRange.class), group);
+        if (doubleRange != null) {
+            if (type == double.class) {
+                return new DoubleValue(accessor, doubleRange.min(), doubleRange.max());
+            }
+            if (type == Double.class) {
+                return new BoxedDouble(accessor, notNull, doubleRange.min(), doubleRange.max());
+            }
+            if (type == double[].class) {
+                return new DoubleArray(accessor, notNull, doubleRange.min(), doubleRange.max());
+            }
+            return new Mismatch(accessor, notNull, "double", "DoubleRange");
+        }
+        DecimalRange decimalRange = FieldCheck.inGroup(field.getAnnotation(DecimalRange.class), group);
+        if (decimalRange != null) {
+            if (type != BigDecimal.class) {
+                return new Mismatch(accessor, notNull, "BigDecimal", "DecimalRange");
+            }
+            try {
+                return new Decimal(accessor, notNull, decimal(decimalRange.min()), decimal(decimalRange.max()));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException(Validator.getErrorMessage(field, "has an invalid @DecimalRange bound."), e);
+            }
+        }
+        MinValue min = FieldCheck.inGroup(field.getAnnotation(MinValue.class), group);
+        MaxValue max = FieldCheck.inGroup(field.getAnnotation(MaxValue.class), group);
+        if (type == int[].class && (min != null || max != null)) {
+            return new IntArray(accessor, notNull,
+                    min != null ? min.value() : Integer.MIN_VALUE,
+                    max != null ? max.value() : Integer.MAX_VALUE);
+        }
+        return null;
+    }
+
+    /**
+     * Formats the reason of a range violation; a {@code null} bound is an open side.
+     */
+    static String rangeReason(Object min, Object max) {
+        if (min == null && max == null) {
+            // Only NaN is outside an unbounded double range.
+            return "must be a number.";
+        }
+        if (min == null) {
+            return "must be less than or equal to " + max + ".";
+        }
+        if (max == null) {
+            return "must be greater than or equal to " + min + ".";
+        }
+        return "must be between " + min + " and " + max + ".";
+    }
+
+    private static BigDecimal decimal(String bound) {
+        return bound.isEmpty() ? null : new BigDecimal(bound);
+    }
+
+    /**
+     * Checker of a primitive {@code long} field.
+     */
+    private static final class LongValue extends NumericCheck {
+
+        private final long min;
+        private final long max;
+
+        LongValue(FieldAccessor accessor, long min, long max) {
+            super(accessor, false);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            long value = accessor.getLong(obj);
+            return value >= min && value <= max ? VALID : SCALAR;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.LONG_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Long.MIN_VALUE ? min : null, max != Long.MAX_VALUE ? max : null);
+        }
+    }
+
+    /**
+     * Checker of a {@code Long} field.
+     */
+    private static final class BoxedLong extends NumericCheck {
+
+        private final long min;
+        private final long max;
+
+        BoxedLong(FieldAccessor accessor, boolean notNull, long min, long max) {
+            super(accessor, notNull);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            Long value = (Long) accessor.get(obj);
+            if (value == null) {
+                return notNull ? NULL : VALID;
+            }
+            return value >= min && value <= max ? VALID : SCALAR;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.LONG_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Long.MIN_VALUE ? min : null, max != Long.MAX_VALUE ? max : null);
+        }
+    }
+
+    /**
+     * Element-wise checker of a {@code long[]} field.
+     */
+    private static final class LongArray extends NumericCheck {
+
+        private final long min;
+        private final long max;
+
+        LongArray(FieldAccessor accessor, boolean notNull, long min, long max) {
+            super(accessor, notNull);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            long[] values = (long[]) accessor.get(obj);
+            if (values == null) {
+                return notNull ? NULL : VALID;
+            }
+            long lowest = Long.MAX_VALUE;
+            long highest = Long.MIN_VALUE;
+            for (long value : values) {
+                lowest = Math.min(lowest, value);
+                highest = Math.max(highest, value);
+            }
+            if (values.length == 0 || lowest >= min && highest <= max) {
+                return VALID;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] < min || values[i] > max) {
+                    return i;
+                }
+            }
+            return VALID;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.LONG_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Long.MIN_VALUE ? min : null, max != Long.MAX_VALUE ? max : null);
+        }
+    }
+
+    /**
+     * Checker of a primitive {@code double} field.
+     */
+    private static final class DoubleValue extends NumericCheck {
+
+        private final double min;
+        private final double max;
+
+        DoubleValue(FieldAccessor accessor, double min, double max) {
+            super(accessor, false);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            double value = accessor.getDouble(obj);
+            return value >= min && value <= max ? VALID : SCALAR;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.DOUBLE_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Double.NEGATIVE_INFINITY ? min : null, max != Double.POSITIVE_INFINITY ? max : null);
+        }
+    }
+
+    /**
+     * Checker of a {@code Double} field.
+     */
+    private static final class BoxedDouble extends NumericCheck {
+
+        private final double min;
+        private final double max;
+
+        BoxedDouble(FieldAccessor accessor, boolean notNull, double min, double max) {
+            super(accessor, notNull);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            Double value = (Double) accessor.get(obj);
+            if (value == null) {
+                return notNull ? NULL : VALID;
+            }
+            return value >= min && value <= max ? VALID : SCALAR;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.DOUBLE_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Double.NEGATIVE_INFINITY ? min : null, max != Double.POSITIVE_INFINITY ? max : null);
+        }
+    }
+
+    /**
+     * Element-wise checker of a {@code double[]} field. {@code NaN} propagates through
+     * {@link Math#min(double, double)}, so it fails the range test of the reduction.
+     */
+    private static final class DoubleArray extends NumericCheck {
+
+        private final double min;
+        private final double max;
+
+        DoubleArray(FieldAccessor accessor, boolean notNull, double min, double max) {
+            super(accessor, notNull);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            double[] values = (double[]) accessor.get(obj);
+            if (values == null) {
+                return notNull ? NULL : VALID;
+            }
+            double lowest = Double.POSITIVE_INFINITY;
+            double highest = Double.NEGATIVE_INFINITY;
+            for (double value : values) {
+                lowest = Math.min(lowest, value);
+                highest = Math.max(highest, value);
+            }
+            if (values.length == 0 || lowest >= min && highest <= max) {
+                return VALID;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!(values[i] >= min && values[i] <= max)) {
+                    return i;
+                }
+            }
+            return VALID;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.DOUBLE_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Double.NEGATIVE_INFINITY ? min : null, max != Double.POSITIVE_INFINITY ? max : null);
+        }
+    }
+
+    /**
+     * Checker of a {@link BigDecimal} field; either bound may be {@code null} for an open side.
+     */
+    private static final class Decimal extends NumericCheck {
+
+        private final BigDecimal min;
+        private final BigDecimal max;
+
+        Decimal(FieldAccessor accessor, boolean notNull, BigDecimal min, BigDecimal max) {
+            super(accessor, notNull);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            BigDecimal value = (BigDecimal) accessor.get(obj);
+            if (value == null) {
+                return notNull ? NULL : VALID;
+            }
+            if (min != null && value.compareTo(min) < 0 || max != null && value.compareTo(max) > 0) {
+                return SCALAR;
+            }
+            return VALID;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.DECIMAL_RANGE;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != null ? min.toPlainString() : null, max != null ? max.toPlainString() : null);
+        }
+    }
+
+    /**
+     * Element-wise checker of an {@code int[]} field annotated with {@link MinValue} or {@link MaxValue}.
+     * Violations are reported with the codes and messages of the scalar annotations: an element
+     * below the minimum is reported by its index {@code i}, one above the maximum by
+     * {@code ABOVE - i}, so the code also tells which bound was violated.
+     */
+    private static final class IntArray extends NumericCheck {
+
+        private static final int ABOVE = SCALAR - 1;
+
+        private final int min;
+        private final int max;
+
+        IntArray(FieldAccessor accessor, boolean notNull, int min, int max) {
+            super(accessor, notNull);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            int[] values = (int[]) accessor.get(obj);
+            if (values == null) {
+                return notNull ? NULL : VALID;
+            }
+            int lowest = Integer.MAX_VALUE;
+            int highest = Integer.MIN_VALUE;
+            for (int value : values) {
+                lowest = Math.min(lowest, value);
+                highest = Math.max(highest, value);
+            }
+            if (values.length == 0 || lowest >= min && highest <= max) {
+                return VALID;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] < min) {
+                    return i;
+                }
+                if (values[i] > max) {
+                    return ABOVE - i;
+                }
+            }
+            return VALID;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return code <= ABOVE ? Constraint.MAX_VALUE : Constraint.MIN_VALUE;
+        }
+
+        @Override
+        int bound(int code) {
+            return code <= ABOVE ? max : min;
+        }
+
+        @Override
+        int element(int code) {
+            return code <= ABOVE ? ABOVE - code : code;
+        }
+
+        @Override
+        String reason() {
+            return rangeReason(min != Integer.MIN_VALUE ? min : null, max != Integer.MAX_VALUE ? max : null);
+        }
+    }
+
+    /**
+     * Checker of a field whose type does not match its range annotation; it always fails
+     * unless the value is {@code null}.
+     */
+    private static final class Mismatch extends NumericCheck {
+
+        private final String typeName;
+        private final String annotation;
+
+        Mismatch(FieldAccessor accessor, boolean notNull, String typeName, String annotation) {
+            super(accessor, notNull);
+            this.typeName = typeName;
+            this.annotation = annotation;
+        }
+
+        @Override
+        int test(Object obj) throws Exception {
+            if (accessor.get(obj) == null) {
+                return notNull ? NULL : VALID;
+            }
+            return TYPE;
+        }
+
+        @Override
+        Constraint rangeConstraint(int code) {
+            return Constraint.NUMBER_TYPE;
+        }
+
+        @Override
+        String reason() {
+            return "is not of type " + typeName + " for @" + annotation + ".";
+        }
+    }
+}
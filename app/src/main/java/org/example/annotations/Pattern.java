@@ -0,0 +1,24 @@
+package org.example.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to specify a regular expression that the whole value of a string field must match.
+ * A {@code null} value is not checked; combine with {@link NotNull} to reject it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Pattern {
+
+    String regexp();
+
+    /**
+     * Flags of {@link java.util.regex.Pattern#compile(String, int)}.
+     */
+    int flags() default 0;
+
+    Class<?>[] groups() default {};
+}
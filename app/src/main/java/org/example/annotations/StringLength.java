@@ -14,4 +14,6 @@ public @interface StringLength {
 
     int min() default 0;
     int max() default Integer.MAX_VALUE;
+
+    Class<?>[] groups() default {};
 }
\ No newline at end of file
@@ -0,0 +1,332 @@
+package org.example.annotations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * The {@code StringMatcher} class tests strings against the regular expression of a {@link Pattern}.
+ * <p>
+ * Matchers are shared through a bounded cache keyed by expression and flags, so a regular
+ * expression is compiled once no matter how many fields use it; the least recently used
+ * entry is evicted beyond {@value #CACHE_SIZE} entries. Expressions made only of ASCII
+ * character classes and literals with quantifiers, such as {@code [A-Z]{2}[0-9]{3,4}} or
+ * {@code \w+}, are matched by a table lookup per character without the regex engine, as long
+ * as every part but the last has a fixed count, so no backtracking is ever needed. Other
+ * expressions use a {@link java.util.regex.Pattern} and one reusable {@link Matcher} per thread.
+ * </p>
+ */
+abstract class StringMatcher {
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final Map<Key, StringMatcher> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, StringMatcher> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    final String regexp;
+
+    StringMatcher(String regexp) {
+        this.regexp = regexp;
+    }
+
+    /**
+     * Returns whether the whole value matches the expression.
+     *
+     * @param value the string to test
+     * @return {@code true} if the value matches
+     */
+    abstract boolean matches(String value);
+
+    /**
+     * Returns the shared matcher of the specified expression, compiling it on first use.
+     *
+     * @param regexp the regular expression
+     * @param flags the flags of {@link java.util.regex.Pattern#compile(String, int)}
+     * @return the matcher
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     */
+    static StringMatcher of(String regexp, int flags) {
+        Key key = new Key(regexp, flags);
+        synchronized (CACHE) {
+            StringMatcher matcher = CACHE.get(key);
+            if (matcher != null) {
+                return matcher;
+            }
+        }
+        StringMatcher matcher = flags == 0 ? CharClassMatcher.parse(regexp) : null;
+        if (matcher == null) {
+            matcher = new RegexMatcher(regexp, java.util.regex.Pattern.compile(regexp, flags));
+        }
+        synchronized (CACHE) {
+            StringMatcher existing = CACHE.putIfAbsent(key, matcher);
+            return existing != null ? existing : matcher;
+        }
+    }
+
+    private record Key(String regexp, int flags) {
+    }
+
+    /**
+     * Matcher delegating to the regex engine with a {@link Matcher} kept per thread.
+     */
+    private static final class RegexMatcher extends StringMatcher {
+
+        private final ThreadLocal<Matcher> matchers;
+
+        RegexMatcher(String regexp, java.util.regex.Pattern pattern) {
+            super(regexp);
+            this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+
+        @Override
+        boolean matches(String value) {
+            return matchers.get().reset(value).matches();
+        }
+    }
+
+    /**
+     * Matcher for a sequence of ASCII character classes, each held as a 128-bit table.
+     */
+    static final class CharClassMatcher extends StringMatcher {
+
+        private final long[] low;
+        private final long[] high;
+        private final int[] min;
+        private final int[] max;
+
+        private CharClassMatcher(String regexp, List<long[]> classes, List<int[]> counts) {
+            super(regexp);
+            int n = classes.size();
+            this.low = new long[n];
+            this.high = new long[n];
+            this.min = new int[n];
+            this.max = new int[n];
+            for (int i = 0; i < n; i++) {
+                low[i] = classes.get(i)[0];
+                high[i] = classes.get(i)[1];
+                min[i] = counts.get(i)[0];
+                max[i] = counts.get(i)[1];
+            }
+        }
+
+        @Override
+        boolean matches(String value) {
+            int length = value.length();
+            int position = 0;
+            int last = low.length - 1;
+            for (int atom = 0; atom < last; atom++) {
+                int end = position + min[atom];
+                if (end > length) {
+                    return false;
+                }
+                for (; position < end; position++) {
+                    if (!contains(atom, value.charAt(position))) {
+                        return false;
+                    }
+                }
+            }
+            int rest = length - position;
+            if (rest < min[last] || rest > max[last]) {
+                return false;
+            }
+            for (; position < length; position++) {
+                if (!contains(last, value.charAt(position))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean contains(int atom, char c) {
+            if (c < 64) {
+                return (low[atom] & 1L << c) != 0;
+            }
+            return c < 128 && (high[atom] & 1L << c) != 0;
+        }
+
+        /**
+         * Parses an expression into character-class atoms, or returns {@code null} if it uses
+         * anything else: alternation, groups, non-ASCII characters, negated classes, {@code .},
+         * or a variable count anywhere but on the last atom.
+         */
+        static CharClassMatcher parse(String regexp) {
+            String body = regexp;
+            if (body.startsWith("^")) {
+                body = body.substring(1);
+            }
+            if (body.endsWith("$") && !body.endsWith("\\$")) {
+                body = body.substring(0, body.length() - 1);
+            }
+            List<long[]> classes = new ArrayList<>();
+            List<int[]> counts = new ArrayList<>();
+            int i = 0;
+            while (i < body.length()) {
+                long[] set = new long[2];
+                char c = body.charAt(i);
+                if (c == '[') {
+                    i = parseClass(body, i + 1, set);
+                } else if (c == '\\') {
+                    if (i + 1 >= body.length() || !escape(body.charAt(i + 1), set)) {
+                        return null;
+                    }
+                    i += 2;
+                } else if (c < 128 && "^$.|?*+()[]{}".indexOf(c) < 0) {
+                    add(set, c);
+                    i++;
+                } else {
+                    return null;
+                }
+                if (i < 0) {
+                    return null;
+                }
+                int[] count = {1, 1};
+                if (i < body.length()) {
+                    i = parseCount(body, i, count);
+                    if (i < 0) {
+                        return null;
+                    }
+                }
+                if (!counts.isEmpty() && counts.get(counts.size() - 1)[0] != counts.get(counts.size() - 1)[1]) {
+                    return null;
+                }
+                classes.add(set);
+                counts.add(count);
+            }
+            return classes.isEmpty() ? null : new CharClassMatcher(regexp, classes, counts);
+        }
+
+        /**
+         * Parses the body of a bracket expression after {@code [} and returns the index after {@code ]}.
+         */
+        private static int parseClass(String s, int i, long[] set) {
+            if (i < s.length() && s.charAt(i) == '^') {
+                return -1;
+            }
+            boolean first = true;
+            while (i < s.length()) {
+                char c = s.charAt(i);
+                if (c == ']') {
+                    return first ? -1 : i + 1;
+                }
+                first = false;
+                if (c == '[' || c == '&' || c >= 128) {
+                    return -1;
+                }
+                if (c == '\\') {
+                    if (i + 1 >= s.length() || !escape(s.charAt(i + 1), set)) {
+                        return -1;
+                    }
+                    i += 2;
+                    continue;
+                }
+                if (i + 2 < s.length() && s.charAt(i + 1) == '-' && s.charAt(i + 2) != ']') {
+                    char to = s.charAt(i + 2);
+                    if (to < c || to >= 128 || to == '\\' || to == '[') {
+                        return -1;
+                    }
+                    for (char x = c; x <= to; x++) {
+                        add(set, x);
+                    }
+                    i += 3;
+                    continue;
+                }
+                add(set, c);
+                i++;
+            }
+            return -1;
+        }
+
+        /**
+         * Parses an optional quantifier and returns the index after it, or {@code -1} if it
+         * is lazy, possessive or malformed.
+         */
+        private static int parseCount(String s, int i, int[] count) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '?' -> {
+                    count[0] = 0;
+                    count[1] = 1;
+                    i++;
+                }
+                case '*' -> {
+                    count[0] = 0;
+                    count[1] = Integer.MAX_VALUE;
+                    i++;
+                }
+                case '+' -> {
+                    count[0] = 1;
+                    count[1] = Integer.MAX_VALUE;
+                    i++;
+                }
+                case '{' -> {
+                    int close = s.indexOf('}', i);
+                    if (close < 0) {
+                        return -1;
+                    }
+                    String[] bounds = s.substring(i + 1, close).split(",", -1);
+                    try {
+                        count[0] = Integer.parseInt(bounds[0]);
+                        count[1] = bounds.length == 1 ? count[0]
+                                : bounds[1].isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(bounds[1]);
+                    } catch (NumberFormatException e) {
+                        return -1;
+                    }
+                    if (bounds.length > 2 || count[1] < count[0]) {
+                        return -1;
+                    }
+                    i = close + 1;
+                }
+                default -> {
+                    return i;
+                }
+            }
+            if (i < s.length() && (s.charAt(i) == '?' || s.charAt(i) == '+')) {
+                return -1;
+            }
+            return i;
+        }
+
+        /**
+         * Adds the characters of an escape to the set; returns {@code false} for unsupported escapes.
+         */
+        private static boolean escape(char c, long[] set) {
+            switch (c) {
+                case 'd' -> range(set, '0', '9');
+                case 'w' -> {
+                    range(set, 'a', 'z');
+                    range(set, 'A', 'Z');
+                    range(set, '0', '9');
+                    add(set, '_');
+                }
+                case 's' -> {
+                    for (char x : new char[] {' ', '\t', '\n', 0x0B, '\f', '\r'}) {
+                        add(set, x);
+                    }
+                }
+                default -> {
+                    if (c >= 128 || Character.isLetterOrDigit(c)) {
+                        return false;
+                    }
+                    add(set, c);
+                }
+            }
+            return true;
+        }
+
+        private static void range(long[] set, char from, char to) {
+            for (char x = from; x <= to; x++) {
+                add(set, x);
+            }
+        }
+
+        private static void add(long[] set, char c) {
+            set[c >> 6] |= 1L << c;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to specify that the object referenced by a field is validated together with its owner.
+ * For arrays, {@link Iterable}s and {@link java.util.Map}s, every element or value is validated.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Valid {}
@@ -0,0 +1,206 @@
+package org.example.annotations;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+
+/**
+ * The {@code ValidatingProcessor} class is a {@link Flow.Processor} that validates items as they pass.
+ * <p>
+ * Valid items are published to the single downstream subscriber; invalid ones are handed to
+ * a separate sink together with their {@link ValidationResult}, which is reused for the next
+ * item and must not be retained. Demand is propagated unchanged from downstream to upstream,
+ * and every rejected item is replaced by requesting one more from upstream, so the processor
+ * never buffers items and never delivers more than was requested.
+ * </p>
+ *
+ * @param <T> the type of the items
+ * @see ValidationStreams
+ */
+public final class ValidatingProcessor<T> implements Flow.Processor<T, T> {
+
+    private final BiConsumer<? super T, ? super ValidationResult> invalidSink;
+    private final ValidationResult result = new ValidationResult();
+
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super T> subscriber;
+    private Flow.Subscriber<? super T> downstream;
+    private long pendingDemand;
+    private boolean cancelled;
+    private volatile boolean terminated;
+    private boolean delivered;
+    private Throwable error;
+
+    /**
+     * Creates a processor routing invalid items to the specified sink.
+     *
+     * @param invalidSink receives each invalid item with its violations
+     */
+    public ValidatingProcessor(BiConsumer<? super T, ? super ValidationResult> invalidSink) {
+        this.invalidSink = Objects.requireNonNull(invalidSink, "invalidSink");
+    }
+
+    /**
+     * Subscribes the single downstream subscriber. A terminal signal that arrives before
+     * {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} returns is held back until it does.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        synchronized (this) {
+            if (this.subscriber != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("ValidatingProcessor supports a single subscriber."));
+                return;
+            }
+            this.subscriber = subscriber;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                requestUpstream(n);
+            }
+
+            @Override
+            public void cancel() {
+                cancelUpstream();
+            }
+        });
+        synchronized (this) {
+            downstream = subscriber;
+        }
+        deliverTerminal();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        long demand;
+        boolean cancel;
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            demand = pendingDemand;
+            pendingDemand = 0;
+            cancel = cancelled;
+        }
+        if (cancel) {
+            subscription.cancel();
+        } else if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    /**
+     * Validates an item; onNext calls are serialized by the publisher, so a single
+     * result instance is enough. Items can only arrive after the subscriber requested them
+     * from its subscription, so they are passed on even while its onSubscribe is running.
+     * An exception thrown by the validator or the sink cancels the upstream and fails the stream.
+     */
+    @Override
+    public void onNext(T item) {
+        if (terminated) {
+            return;
+        }
+        boolean valid;
+        try {
+            valid = Validator.validate(item, result);
+            if (!valid) {
+                invalidSink.accept(item, result);
+            }
+        } catch (RuntimeException e) {
+            cancelUpstream();
+            onError(e);
+            return;
+        }
+        if (valid) {
+            subscriber.onNext(item);
+        } else {
+            upstream.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable");
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            error = throwable;
+        }
+        deliverTerminal();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+        }
+        deliverTerminal();
+    }
+
+    /**
+     * Delivers the terminal signal once both it has arrived and the downstream subscriber has
+     * returned from onSubscribe; whichever happens last delivers it, exactly once.
+     */
+    private void deliverTerminal() {
+        Flow.Subscriber<? super T> target;
+        Throwable failure;
+        synchronized (this) {
+            if (!terminated || downstream == null || delivered) {
+                return;
+            }
+            delivered = true;
+            target = downstream;
+            failure = error;
+        }
+        if (failure != null) {
+            target.onError(failure);
+        } else {
+            target.onComplete();
+        }
+    }
+
+    private void requestUpstream(long n) {
+        if (n <= 0) {
+            cancelUpstream();
+            onError(new IllegalArgumentException("Requested demand must be positive, was " + n + "."));
+            return;
+        }
+        Flow.Subscription subscription;
+        synchronized (this) {
+            subscription = upstream;
+            if (subscription == null) {
+                pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                return;
+            }
+        }
+        subscription.request(n);
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription;
+        synchronized (this) {
+            cancelled = true;
+            subscription = upstream;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+}
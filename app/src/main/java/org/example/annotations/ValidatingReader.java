@@ -0,0 +1,902 @@
+package org.example.annotations;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code ValidatingReader} class reads CSV or JSON-lines rows from a channel and checks the
+ * constraints of a class while tokenizing them, building objects only for the rows that pass.
+ * <p>
+ * Rows are read into a single reused byte buffer. Each value is checked from its bytes as soon as
+ * it is tokenized: {@link StringLength} against the number of UTF-16 characters counted over the
+ * byte span, {@link MinValue} and {@link MaxValue} while the digits are parsed, and {@link NotNull}
+ * against an empty CSV cell or a JSON {@code null} or missing key. The first violation of a row
+ * rejects it immediately, and the rest of the row is skipped. Rejected rows are reported with their
+ * line number, the constant name of the field and a {@link Constraint} code, so a rejection
+ * allocates nothing; strings are decoded and objects are built only for valid rows.
+ * </p>
+ * <p>
+ * The fields of the class are its non-static, non-transient instance fields and those of its
+ * superclasses, superclass fields first, each in declaration order; they must be of type
+ * {@code String}, {@code int} or {@code Integer}. By default an object is created through the
+ * constructor whose parameters have the types of these fields, in the same order; another factory
+ * can be set with {@link #factory(Function)}. Unlike {@link Validator#validate(Object)}, the first
+ * violation reported is the first one in column order rather than in field order.
+ * </p>
+ * <ul>
+ *     <li>CSV: one row per line, cells separated by a delimiter, optionally quoted with {@code "}
+ *     (a quote inside a quoted cell is doubled, and quoted cells may span lines). A quote only opens
+ *     a quoted cell at the start of the cell; a row with a quote inside an unquoted cell is malformed.
+ *     An empty unquoted cell is {@code null}.</li>
+ *     <li>JSON lines: one flat object per line. Unknown keys are skipped and missing keys are {@code null}.</li>
+ * </ul>
+ * <pre>{@code
+ * long rejected = ValidatingReader.csv(Gamer.class, "username", "age")
+ *         .header(true)
+ *         .read(channel, gamers::add, (line, field, constraint) -> log.reject(line, field, constraint));
+ * }</pre>
+ * Instances keep the buffer and the state of the current row, so they are not thread-safe.
+ *
+ * @param <T> the type of the objects read
+ */
+public final class ValidatingReader<T> {
+
+    /**
+     * Receives the rows rejected by a {@link ValidatingReader}.
+     */
+    @FunctionalInterface
+    public interface RejectedRows {
+
+        /**
+         * Reports a rejected row.
+         *
+         * @param line the line number where the row starts, from 1
+         * @param fieldName the name of the violated field, or {@code null} if the row is malformed
+         * @param constraint the violated constraint, or {@code null} if the row is malformed
+         */
+        void rejected(long line, String fieldName, Constraint constraint);
+    }
+
+    private static final int STRING = 0;
+    private static final int INT = 1;
+    private static final int INTEGER = 2;
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Class<T> type;
+    private final boolean csv;
+    private final Column[] fields;
+    private final Column[] columns;
+    private Function<Object[], ? extends T> factory;
+    private boolean header;
+    private byte delimiter = ',';
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int maxRowSize = Integer.MAX_VALUE;
+
+    private byte[] buffer;
+    private Column violated;
+    private Constraint violation;
+
+    private ValidatingReader(Class<T> type, boolean csv, String[] columnNames) {
+        this.type = type;
+        this.csv = csv;
+        Map<Field, FieldCheck> constrained = new HashMap<>();
+        for (FieldCheck check : ValidationPlan.of(type).checks) {
+            constrained.put(check.field, check);
+        }
+        List<Column> all = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            List<Column> declared = new ArrayList<>();
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                    declared.add(new Column(field, constrained.get(field)));
+                }
+            }
+            all.addAll(0, declared);
+        }
+        this.fields = all.toArray(new Column[0]);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].argument = i;
+        }
+        if (csv) {
+            this.columns = new Column[columnNames.length];
+            for (int i = 0; i < columnNames.length; i++) {
+                columns[i] = find(columnNames[i]);
+            }
+        } else {
+            this.columns = fields;
+        }
+        this.factory = constructorOf();
+    }
+
+    /**
+     * Creates a reader of CSV rows whose cells hold the specified fields, in order.
+     *
+     * @param type the annotated class of the rows
+     * @param columnNames the field held by each column
+     * @param <T> the type of the objects read
+     * @return a reader with {@code ','} as delimiter and no header
+     * @throws IllegalArgumentException if a name does not denote a field
+     * @throws IllegalStateException if a field cannot be read from text or has a constraint that cannot be checked on it
+     */
+    public static <T> ValidatingReader<T> csv(Class<T> type, String... columnNames) {
+        return new ValidatingReader<>(type, true, columnNames);
+    }
+
+    /**
+     * Creates a reader of JSON objects, one per line, whose keys are field names.
+     *
+     * @param type the annotated class of the rows
+     * @param <T> the type of the objects read
+     * @return a reader of JSON lines
+     * @throws IllegalStateException if a field cannot be read from text or has a constraint that cannot be checked on it
+     */
+    public static <T> ValidatingReader<T> jsonLines(Class<T> type) {
+        return new ValidatingReader<>(type, false, null);
+    }
+
+    /**
+     * Sets whether the first line of a CSV input is a header to be skipped.
+     *
+     * @param header {@code true} to skip the first line
+     * @return this reader
+     */
+    public ValidatingReader<T> header(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Sets the delimiter of CSV cells.
+     *
+     * @param delimiter an ASCII character other than a quote or a line break
+     * @return this reader
+     */
+    public ValidatingReader<T> delimiter(char delimiter) {
+        if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be an ASCII character other than a quote or a line break.");
+        }
+        this.delimiter = (byte) delimiter;
+        return this;
+    }
+
+    /**
+     * Sets the initial size of the read buffer. The buffer grows if a row does not fit.
+     *
+     * @param bufferSize the size in bytes
+     * @return this reader
+     */
+    public ValidatingReader<T> bufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive, was " + bufferSize + ".");
+        }
+        this.bufferSize = bufferSize;
+        this.buffer = null;
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of a row. A longer row, such as one that opens a quoted cell and never
+     * closes it, is reported as malformed and skipped up to the next line break, instead of being
+     * buffered whole. There is no limit by default.
+     *
+     * @param maxRowSize the size in bytes, without the line break
+     * @return this reader
+     */
+    public ValidatingReader<T> maxRowSize(int maxRowSize) {
+        if (maxRowSize < 1) {
+            throw new IllegalArgumentException("Maximum row size must be positive, was " + maxRowSize + ".");
+        }
+        this.maxRowSize = maxRowSize;
+        return this;
+    }
+
+    /**
+     * Sets the factory that builds an object from the values of a valid row.
+     *
+     * @param factory receives the values of all fields, in field order, with {@code int} values boxed
+     * @return this reader
+     */
+    public ValidatingReader<T> factory(Function<Object[], ? extends T> factory) {
+        this.factory = factory;
+        return this;
+    }
+
+    /**
+     * Reads all rows of the channel until its end.
+     * <p>
+     * The factory, by default the constructor of the class, is only called for rows that satisfy
+     * the constraints. An exception it throws, such as an {@link IllegalArgumentException} from a
+     * validating constructor, is not a rejection: it ends the read and is thrown to the caller, after
+     * the rows before it were delivered. The reader can be used again for another channel.
+     * </p>
+     *
+     * @param channel the input, for example a {@link java.nio.channels.FileChannel}
+     * @param accepted receives an object for every valid row, in input order
+     * @param rejected receives every rejected row, in input order
+     * @return the number of rejected rows
+     * @throws IOException if the channel cannot be read
+     * @throws IllegalStateException if no factory is available for the class
+     * @throws RuntimeException if the factory fails for a valid row
+     */
+    public long read(ReadableByteChannel channel, Consumer<? super T> accepted, RejectedRows rejected) throws IOException {
+        if (factory == null) {
+            throw new IllegalStateException("Class " + type.getSimpleName()
+                    + " has no constructor taking its fields in order; set one with factory(values -> ...).");
+        }
+        if (buffer == null) {
+            buffer = new byte[bufferSize];
+        }
+        int start = 0;
+        int limit = 0;
+        int scan = 0;
+        boolean quoted = false;
+        // Whether a quote at the scan position opens a quoted cell: at the start of a cell, or
+        // right after a closing quote, where it is the second quote of an escaped pair.
+        boolean opens = true;
+        boolean discarding = false;
+        int rowLines = 1;
+        long line = 1;
+        boolean skip = csv && header;
+        boolean eof = false;
+        long rejectedRows = 0;
+        while (true) {
+            int rowEnd = -1;
+            byte[] b = buffer;
+            for (; scan < limit; scan++) {
+                byte c = b[scan];
+                if (quoted) {
+                    if (c == '"') {
+                        quoted = false;
+                        opens = true;
+                    } else if (c == '\n') {
+                        rowLines++;
+                    }
+                } else if (c == '\n') {
+                    rowEnd = scan;
+                    break;
+                } else {
+                    quoted = csv && c == '"' && opens && !discarding;
+                    opens = c == delimiter;
+                }
+            }
+            if (rowEnd < 0) {
+                if (eof) {
+                    int end = limit > start && b[limit - 1] == '\r' ? limit - 1 : limit;
+                    if (end > start && !skip && !discarding && !processRow(start, end, line, accepted, rejected)) {
+                        rejectedRows++;
+                    }
+                    return rejectedRows;
+                }
+                if (!discarding && limit - start > maxRowSize) {
+                    // The row is too long: report it and drop its bytes until the next line break.
+                    if (!skip) {
+                        rejected.rejected(line, null, null);
+                        rejectedRows++;
+                    }
+                    discarding = true;
+                    quoted = false;
+                }
+                if (discarding) {
+                    start = limit;
+                }
+                if (start > 0) {
+                    System.arraycopy(b, start, b, 0, limit - start);
+                    limit -= start;
+                    scan -= start;
+                    start = 0;
+                } else if (limit == b.length) {
+                    buffer = Arrays.copyOf(b, b.length * 2);
+                }
+                int n = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    limit += n;
+                }
+                continue;
+            }
+            int end = rowEnd > start && b[rowEnd - 1] == '\r' ? rowEnd - 1 : rowEnd;
+            if (discarding) {
+                discarding = false;
+                skip = false;
+            } else if (skip) {
+                skip = false;
+            } else if (end > start && !processRow(start, end, line, accepted, rejected)) {
+                rejectedRows++;
+            }
+            line += rowLines;
+            rowLines = 1;
+            opens = true;
+            start = rowEnd + 1;
+            scan = start;
+        }
+    }
+
+    /**
+     * Tokenizes and checks a row, and builds its object if it is valid.
+     *
+     * @return whether the row was accepted
+     */
+    private boolean processRow(int start, int end, long line, Consumer<? super T> accepted, RejectedRows rejected) {
+        for (Column field : fields) {
+            field.reset();
+        }
+        violated = null;
+        violation = null;
+        boolean wellFormed = csv ? tokenizeCsv(start, end) : tokenizeJson(start, end);
+        if (wellFormed && violated == null) {
+            for (Column field : fields) {
+                if (!field.present && field.check(this)) {
+                    break;
+                }
+            }
+        }
+        if (!wellFormed || violated != null) {
+            rejected.rejected(line, violated != null ? violated.field.getName() : null, violation);
+            return false;
+        }
+        accepted.accept(factory.apply(values()));
+        return true;
+    }
+
+    private boolean tokenizeCsv(int start, int end) {
+        byte[] b = buffer;
+        int p = start;
+        for (int i = 0; ; i++) {
+            if (i == columns.length) {
+                return false;
+            }
+            Column column = columns[i];
+            column.present = true;
+            if (p < end && b[p] == '"') {
+                p = column.quoted(b, p + 1, end);
+                if (p < 0) {
+                    return false;
+                }
+                if (p < end && b[p] != delimiter) {
+                    return false;
+                }
+            } else {
+                p = column.plain(b, p, end, delimiter);
+                if (p < 0) {
+                    return false;
+                }
+            }
+            if (column.check(this)) {
+                return true;
+            }
+            if (p == end) {
+                return i == columns.length - 1;
+            }
+            p++;
+        }
+    }
+
+    private boolean tokenizeJson(int start, int end) {
+        byte[] b = buffer;
+        int p = skipSpace(b, start, end);
+        if (p == end || b[p] != '{') {
+            return false;
+        }
+        p = skipSpace(b, p + 1, end);
+        if (p < end && b[p] == '}') {
+            return skipSpace(b, p + 1, end) == end;
+        }
+        while (true) {
+            if (p == end || b[p] != '"') {
+                return false;
+            }
+            int keyStart = p + 1;
+            p = skipString(b, keyStart, end);
+            if (p < 0) {
+                return false;
+            }
+            Column column = columnOf(b, keyStart, p - 1);
+            p = skipSpace(b, p, end);
+            if (p == end || b[p] != ':') {
+                return false;
+            }
+            p = skipSpace(b, p + 1, end);
+            if (p == end) {
+                return false;
+            }
+            if (column == null) {
+                p = skipValue(b, p, end);
+            } else {
+                column.reset();
+                column.present = true;
+                p = column.json(b, p, end);
+                if (p >= 0 && column.check(this)) {
+                    return true;
+                }
+            }
+            if (p < 0) {
+                return false;
+            }
+            p = skipSpace(b, p, end);
+            if (p == end) {
+                return false;
+            }
+            if (b[p] == '}') {
+                return skipSpace(b, p + 1, end) == end;
+            }
+            if (b[p] != ',') {
+                return false;
+            }
+            p = skipSpace(b, p + 1, end);
+        }
+    }
+
+    private Column columnOf(byte[] b, int from, int to) {
+        for (Column column : columns) {
+            if (Arrays.equals(b, from, to, column.name, 0, column.name.length)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the first violation of the current row.
+     *
+     * @return {@code true}, so checks can report a violation with a single return statement
+     */
+    private boolean violate(Column column, Constraint constraint) {
+        violated = column;
+        violation = constraint;
+        return true;
+    }
+
+    private Object[] values() {
+        Object[] values = new Object[fields.length];
+        for (Column field : fields) {
+            values[field.argument] = field.value(buffer, csv);
+        }
+        return values;
+    }
+
+    private Column find(String name) {
+        for (Column field : fields) {
+            if (field.field.getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Class " + type.getSimpleName() + " has no field '" + name + "'.");
+    }
+
+    private Function<Object[], ? extends T> constructorOf() {
+        Class<?>[] parameters = new Class<?>[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            parameters[i] = fields[i].field.getType();
+        }
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor(parameters);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (!constructor.trySetAccessible()) {
+            return null;
+        }
+        return values -> {
+            try {
+                return constructor.newInstance(values);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Constructor of class " + type.getSimpleName() + " failed.", e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Class " + type.getSimpleName() + " cannot be instantiated.", e);
+            }
+        };
+    }
+
+    private static int skipSpace(byte[] b, int p, int end) {
+        while (p < end && (b[p] == ' ' || b[p] == '\t' || b[p] == '\r')) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * Skips a JSON string whose opening quote precedes {@code p}.
+     *
+     * @return the index after the closing quote, or {@code -1} if the string is not terminated
+     */
+    private static int skipString(byte[] b, int p, int end) {
+        while (p < end) {
+            byte c = b[p++];
+            if (c == '"') {
+                return p;
+            }
+            if (c == '\\') {
+                p++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips a JSON value of an unknown key, including nested objects and arrays.
+     *
+     * @return the index after the value, or {@code -1} if it is malformed
+     */
+    private static int skipValue(byte[] b, int p, int end) {
+        int depth = 0;
+        while (p < end) {
+            byte c = b[p];
+            if (c == '"') {
+                p = skipString(b, p + 1, end);
+                if (p < 0) {
+                    return -1;
+                }
+                if (depth == 0) {
+                    return p;
+                }
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0) {
+                    return p;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                return p;
+            }
+            p++;
+            if (depth == 0 && (c == '}' || c == ']')) {
+                return p;
+            }
+        }
+        return depth == 0 ? p : -1;
+    }
+
+    /**
+     * Returns the number of UTF-16 characters encoded by a UTF-8 byte: one for the lead byte of a
+     * sequence, two for the lead byte of a four-byte sequence, and none for continuation bytes.
+     */
+    private static int utf16Length(byte c) {
+        return ((c & 0xC0) != 0x80 ? 1 : 0) + ((c & 0xF8) == 0xF0 ? 1 : 0);
+    }
+
+    /**
+     * A field of the class, together with its constraints and the value tokenized for the current row.
+     */
+    private static final class Column {
+
+        final Field field;
+        final int kind;
+        final byte[] name;
+        final boolean notNull;
+        final boolean hasLength;
+        final int minLength;
+        final int maxLength;
+        final boolean hasMin;
+        final int min;
+        final boolean hasMax;
+        final int max;
+        final long positiveLimit;
+        final long negativeLimit;
+        int argument;
+
+        boolean present;
+        boolean isNull;
+        boolean escaped;
+        int start;
+        int end;
+        int length;
+        int intValue;
+        Constraint error;
+
+        Column(Field field, FieldCheck check) {
+            this.field = field;
+            this.name = field.getName().getBytes(StandardCharsets.UTF_8);
+            Class<?> fieldType = field.getType();
+            if (fieldType == String.class) {
+                kind = STRING;
+            } else if (fieldType == int.class) {
+                kind = INT;
+            } else if (fieldType == Integer.class) {
+                kind = INTEGER;
+            } else {
+                throw new IllegalStateException(Validator.getErrorMessage(field,
+                        "has type " + fieldType.getSimpleName() + ", which cannot be read from text."));
+            }
+            if (check != null && (check.pattern != null || check.numeric != null)) {
+                throw new IllegalStateException(Validator.getErrorMessage(field,
+                        "has a constraint that cannot be checked while tokenizing."));
+            }
+            if (check != null && (kind == STRING ? check.hasRange() : check.hasLength)) {
+                throw new IllegalStateException(check.message(kind == STRING ? Constraint.INTEGER_TYPE : Constraint.STRING_TYPE));
+            }
+            this.notNull = check != null && check.notNull;
+            this.hasLength = check != null && check.hasLength;
+            this.minLength = hasLength ? check.minLength : 0;
+            this.maxLength = hasLength ? check.maxLength : Integer.MAX_VALUE;
+            this.hasMin = check != null && check.hasMin;
+            this.min = hasMin ? check.min : Integer.MIN_VALUE;
+            this.hasMax = check != null && check.hasMax;
+            this.max = hasMax ? check.max : Integer.MAX_VALUE;
+            this.positiveLimit = max;
+            this.negativeLimit = -(long) min;
+        }
+
+        void reset() {
+            present = false;
+            isNull = true;
+            escaped = false;
+            error = null;
+        }
+
+        /**
+         * Tokenizes an unquoted CSV cell, counting its characters or parsing its digits.
+         *
+         * @return the index of the delimiter or of the end of the row, or {@code -1} if the cell contains a quote
+         */
+        int plain(byte[] b, int p, int end, byte delimiter) {
+            start = p;
+            if (kind != STRING) {
+                int stop = p;
+                while (stop < end && b[stop] != delimiter) {
+                    if (b[stop] == '"') {
+                        return -1;
+                    }
+                    stop++;
+                }
+                if (stop > p) {
+                    number(b, p, stop);
+                }
+                return stop;
+            }
+            int count = 0;
+            while (p < end && b[p] != delimiter) {
+                if (b[p] == '"') {
+                    return -1;
+                }
+                count += utf16Length(b[p++]);
+            }
+            this.end = p;
+            this.length = count;
+            this.isNull = p == start;
+            return p;
+        }
+
+        /**
+         * Tokenizes a quoted CSV cell whose opening quote precedes {@code p}.
+         *
+         * @return the index after the closing quote, or {@code -1} if the cell is not terminated
+         */
+        int quoted(byte[] b, int p, int end) {
+            start = p;
+            int count = 0;
+            while (p < end) {
+                byte c = b[p];
+                if (c == '"') {
+                    if (p + 1 < end && b[p + 1] == '"') {
+                        escaped = true;
+                        count++;
+                        p += 2;
+                        continue;
+                    }
+                    this.end = p;
+                    this.length = count;
+                    this.isNull = false;
+                    if (kind != STRING) {
+                        if (escaped || p == start) {
+                            error = Constraint.INTEGER_TYPE;
+                        } else {
+                            number(b, start, p);
+                        }
+                    }
+                    return p + 1;
+                }
+                count += utf16Length(c);
+                p++;
+            }
+            return -1;
+        }
+
+        /**
+         * Tokenizes a JSON value.
+         *
+         * @return the index after the value, or {@code -1} if it is malformed
+         */
+        int json(byte[] b, int p, int end) {
+            byte c = b[p];
+            if (c == '"') {
+                start = p + 1;
+                int count = 0;
+                for (p = start; p < end; ) {
+                    c = b[p];
+                    if (c == '"') {
+                        this.end = p;
+                        this.length = count;
+                        this.isNull = false;
+                        if (kind != STRING) {
+                            error = Constraint.INTEGER_TYPE;
+                        }
+                        return p + 1;
+                    }
+                    if (c == '\\') {
+                        escaped = true;
+                        count++;
+                        p += p + 1 < end && b[p + 1] == 'u' ? 6 : 2;
+                        continue;
+                    }
+                    count += utf16Length(c);
+                    p++;
+                }
+                return -1;
+            }
+            if (c == 'n') {
+                return literal(b, p, end, "null") ? p + 4 : -1;
+            }
+            int stop = p;
+            while (stop < end && b[stop] != ',' && b[stop] != '}' && b[stop] != ' ' && b[stop] != '\t') {
+                stop++;
+            }
+            if (c == '{' || c == '[') {
+                stop = skipValue(b, p, end);
+                if (stop < 0) {
+                    return -1;
+                }
+            }
+            isNull = false;
+            if (kind == STRING) {
+                error = Constraint.STRING_TYPE;
+            } else {
+                number(b, p, stop);
+            }
+            return stop;
+        }
+
+        /**
+         * Parses a decimal integer and checks its bounds while reading the digits: once the
+         * magnitude exceeds the bound of its sign, the remaining digits are only skipped.
+         */
+        void number(byte[] b, int p, int end) {
+            isNull = false;
+            boolean negative = b[p] == '-';
+            if (negative || b[p] == '+') {
+                p++;
+            }
+            if (p == end) {
+                error = Constraint.INTEGER_TYPE;
+                return;
+            }
+            long limit = negative ? negativeLimit : positiveLimit;
+            long magnitude = 0;
+            boolean beyond = false;
+            for (; p < end; p++) {
+                int digit = b[p] - '0';
+                if (digit < 0 || digit > 9) {
+                    error = Constraint.INTEGER_TYPE;
+                    return;
+                }
+                if (!beyond) {
+                    magnitude = magnitude * 10 + digit;
+                    beyond = magnitude > limit;
+                }
+            }
+            if (beyond) {
+                if (negative) {
+                    error = hasMin ? Constraint.MIN_VALUE : Constraint.INTEGER_TYPE;
+                } else {
+                    error = hasMax ? Constraint.MAX_VALUE : Constraint.INTEGER_TYPE;
+                }
+                return;
+            }
+            long value = negative ? -magnitude : magnitude;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                error = Constraint.INTEGER_TYPE;
+            } else if (hasMax && value > max) {
+                error = Constraint.MAX_VALUE;
+            } else if (hasMin && value < min) {
+                error = Constraint.MIN_VALUE;
+            } else {
+                intValue = (int) value;
+            }
+        }
+
+        /**
+         * Checks the tokenized value in the order of {@link Validator#validate(Object)}.
+         *
+         * @return {@code true} if a violation was recorded in the reader
+         */
+        boolean check(ValidatingReader<?> reader) {
+            if (isNull) {
+                if (notNull) {
+                    return reader.violate(this, Constraint.NOT_NULL);
+                }
+                if (kind == STRING && hasLength) {
+                    return reader.violate(this, Constraint.STRING_TYPE);
+                }
+                if (kind == INT || kind == INTEGER && (hasMin || hasMax)) {
+                    return reader.violate(this, Constraint.INTEGER_TYPE);
+                }
+                return false;
+            }
+            if (error != null) {
+                return reader.violate(this, error);
+            }
+            if (hasLength && (length < minLength || length > maxLength)) {
+                return reader.violate(this, Constraint.STRING_LENGTH);
+            }
+            return false;
+        }
+
+        /**
+         * Decodes the value of a valid row.
+         */
+        Object value(byte[] b, boolean csv) {
+            if (isNull) {
+                return null;
+            }
+            if (kind != STRING) {
+                return intValue;
+            }
+            String value = new String(b, start, end - start, StandardCharsets.UTF_8);
+            if (!escaped) {
+                return value;
+            }
+            return csv ? value.replace("\"\"", "\"") : unescape(value);
+        }
+
+        private static boolean literal(byte[] b, int p, int end, String literal) {
+            if (end - p < literal.length()) {
+                return false;
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                if (b[p + i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String unescape(String value) {
+            StringBuilder out = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != '\\' || i + 1 == value.length()) {
+                    out.append(c);
+                    continue;
+                }
+                char e = value.charAt(++i);
+                switch (e) {
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'u' -> {
+                        if (i + 4 < value.length()) {
+                            out.append((char) Integer.parseInt(value, i + 1, i + 5, 16));
+                            i += 4;
+                        }
+                    }
+                    default -> out.append(e);
+                }
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package org.example.annotations;
+
+import java.io.Serial;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code ValidationCache} class remembers objects that passed validation, so that
+ * validating them again returns immediately.
+ * <p>
+ * Objects are remembered by identity through weak references, so the cache never keeps an
+ * object alive. Instances of classes annotated with {@link Immutable} are remembered by value
+ * instead: the key is the content of their constrained fields, so any equal instance is a hit.
+ * Classes with {@link Valid} fields are always remembered by identity, since their validity
+ * also depends on the objects they reference. Only successful validations are cached.
+ * </p>
+ * <p>
+ * The cache holds at most {@code maximumSize} entries, spread over up to {@value #SEGMENTS}
+ * independently locked segments that each evict their least recently used entry. The capacities
+ * of the segments add up to exactly {@code maximumSize}, so a small cache has fewer segments. Hits, misses
+ * and evictions are counted with {@link LongAdder}s. A {@link DirtyTracking} object with a dirty
+ * field is a miss, and its entry is dropped, so changes made through its tracking setters are
+ * validated again. Any other object that is changed after a successful validation must be
+ * removed with {@link #invalidate(Object)}; otherwise it is still considered valid.
+ * </p>
+ */
+public final class ValidationCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final ThreadLocal<LookupKey> lookupKeys = ThreadLocal.withInitial(LookupKey::new);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most the specified number of entries.
+     *
+     * @param maximumSize the maximum number of remembered objects
+     */
+    public ValidationCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize + ".");
+        }
+        // A power of two, so that a segment is selected by masking the hash.
+        int count = Integer.highestOneBit(Math.min(SEGMENTS, maximumSize));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Validates the object with {@link Validator#validate(Object)} unless it was already
+     * validated successfully.
+     *
+     * @param obj the object to be validated
+     * @throws Exception if any validation fails
+     */
+    public void validate(Object obj) throws Exception {
+        if (contains(obj)) {
+            return;
+        }
+        Validator.validate(obj);
+        remember(obj);
+    }
+
+    /**
+     * Validates the object with {@link Validator#validate(Object, ValidationResult)} unless
+     * it was already validated successfully. On a hit the result is left untouched.
+     *
+     * @param obj the object to be validated
+     * @param result the result to be filled on a miss
+     * @return {@code true} if the object satisfies all constraints
+     */
+    public boolean validate(Object obj, ValidationResult result) {
+        if (contains(obj)) {
+            return true;
+        }
+        if (!Validator.validate(obj, result)) {
+            return false;
+        }
+        remember(obj);
+        return true;
+    }
+
+    /**
+     * Forgets the specified object, for example after it was modified.
+     *
+     * @param obj the object to forget
+     */
+    public void invalidate(Object obj) {
+        ValidationPlan plan = ValidationPlan.of(obj.getClass());
+        LookupKey key = lookupKeys.get().set(obj, plan);
+        try {
+            Segment segment = segmentFor(key.hash);
+            synchronized (segment) {
+                segment.remove(key);
+            }
+        } finally {
+            key.clear();
+        }
+    }
+
+    /**
+     * Removes all entries; the statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of remembered objects, including weak entries whose object has
+     * been collected but not yet purged.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of validations skipped because the object was remembered.
+     *
+     * @return the number of hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of validations that had to run.
+     *
+     * @return the number of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to respect the maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to all lookups.
+     *
+     * @return the hit rate, or {@code 0} if nothing was looked up
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private boolean contains(Object obj) {
+        if (isDirty(obj)) {
+            invalidate(obj);
+            misses.increment();
+            return false;
+        }
+        ValidationPlan plan = ValidationPlan.of(obj.getClass());
+        LookupKey key = lookupKeys.get().set(obj, plan);
+        boolean found;
+        try {
+            Segment segment = segmentFor(key.hash);
+            synchronized (segment) {
+                found = segment.get(key) != null;
+            }
+        } finally {
+            key.clear();
+        }
+        (found ? hits : misses).increment();
+        return found;
+    }
+
+    /**
+     * Returns whether a tracked object has a field changed since its last successful validation.
+     */
+    private static boolean isDirty(Object obj) {
+        if (obj instanceof DirtyTracking tracked) {
+            DirtyFields dirty = tracked.currentDirtyFields();
+            return dirty != null && dirty.isDirty();
+        }
+        return false;
+    }
+
+    private void remember(Object obj) {
+        purgeCollected();
+        ValidationPlan plan = ValidationPlan.of(obj.getClass());
+        Object key = byValue(plan) ? new ValueKey(obj, plan) : new IdentityKey(obj, collected);
+        Segment segment = segmentFor(key.hashCode());
+        synchronized (segment) {
+            segment.put(key, Boolean.TRUE);
+        }
+    }
+
+    private void purgeCollected() {
+        for (Object reference = collected.poll(); reference != null; reference = collected.poll()) {
+            IdentityKey key = (IdentityKey) reference;
+            Segment segment = segmentFor(key.hash);
+            synchronized (segment) {
+                segment.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the objects of a plan are keyed by the content of their constrained fields.
+     */
+    private static boolean byValue(ValidationPlan plan) {
+        return plan.immutable && plan.cascades.length == 0;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Reads a constrained field for hashing or comparison; {@code int} fields are boxed only
+     * when a key is stored.
+     */
+    private static Object read(FieldCheck check, Object obj) {
+        try {
+            return check.accessor.get(obj);
+        } catch (Exception e) {
+            throw new IllegalStateException(Validator.getErrorMessage(check.field, "cannot be read."), e);
+        }
+    }
+
+    private static int readInt(FieldCheck check, Object obj) {
+        try {
+            return check.accessor.getInt(obj);
+        } catch (Exception e) {
+            throw new IllegalStateException(Validator.getErrorMessage(check.field, "cannot be read."), e);
+        }
+    }
+
+    private static int contentHash(Object obj, ValidationPlan plan) {
+        int hash = plan.type.hashCode();
+        for (FieldCheck check : plan.checks) {
+            int fieldHash = check.intField ? readInt(check, obj) : Objects.hashCode(read(check, obj));
+            hash = 31 * hash + fieldHash;
+        }
+        return hash;
+    }
+
+    /**
+     * An access-ordered map evicting its eldest entry beyond the segment capacity.
+     */
+    private final class Segment extends LinkedHashMap<Object, Boolean> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A weak key comparing referents by identity.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        final int hash;
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object referent = get();
+            return referent != null && other instanceof IdentityKey key && key.get() == referent;
+        }
+    }
+
+    /**
+     * A key holding the content of the constrained fields of an immutable object.
+     */
+    private static final class ValueKey {
+
+        final Class<?> type;
+        final Object[] values;
+        final int hash;
+
+        ValueKey(Object obj, ValidationPlan plan) {
+            this.type = plan.type;
+            this.values = new Object[plan.checks.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = read(plan.checks[i], obj);
+            }
+            this.hash = contentHash(obj, plan);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || other instanceof ValueKey key && key.type == type
+                    && Arrays.equals(key.values, values);
+        }
+    }
+
+    /**
+     * A reusable, per-thread probe matching stored keys without allocating. It is only ever
+     * passed as the argument of a lookup, so only its own {@code equals} is called.
+     */
+    private static final class LookupKey {
+
+        Object obj;
+        ValidationPlan plan;
+        int hash;
+
+        LookupKey set(Object obj, ValidationPlan plan) {
+            this.obj = obj;
+            this.plan = plan;
+            this.hash = byValue(plan) ? contentHash(obj, plan) : System.identityHashCode(obj);
+            return this;
+        }
+
+        void clear() {
+            obj = null;
+            plan = null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof IdentityKey key) {
+                return !byValue(plan) && key.get() == obj;
+            }
+            if (other instanceof ValueKey key) {
+                return byValue(plan) && key.type == plan.type && sameContent(key.values);
+            }
+            return false;
+        }
+
+        private boolean sameContent(Object[] values) {
+            FieldCheck[] checks = plan.checks;
+            for (int i = 0; i < checks.length; i++) {
+                FieldCheck check = checks[i];
+                if (check.intField) {
+                    if (!(values[i] instanceof Integer stored) || stored != readInt(check, obj)) {
+                        return false;
+                    }
+                } else if (!Objects.equals(values[i], read(check, obj))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
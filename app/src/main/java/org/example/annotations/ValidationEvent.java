@@ -0,0 +1,46 @@
+package org.example.annotations;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted by {@link ValidationMetrics} for every measured validation.
+ * <p>
+ * The event is disabled by default in JFR settings and can be enabled with
+ * {@code -XX:StartFlightRecording:settings=...} or a recording configured for
+ * {@code org.example.Validation}.
+ * </p>
+ */
+@Name("org.example.Validation")
+@Label("Validation")
+@Category("Validation")
+@Description("Validation of an object by the annotation-driven or hand-written validators")
+@StackTrace(false)
+final class ValidationEvent extends Event {
+
+    @Label("Validated Class")
+    Class<?> validatedClass;
+
+    @Label("Path")
+    String path;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Field")
+    @Description("The first violated field, if any")
+    String field;
+
+    @Label("Constraint")
+    @Description("The first violated constraint, if any")
+    String constraint;
+
+    @Label("Validation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long validationTime;
+}
@@ -0,0 +1,250 @@
+package org.example.annotations;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code ValidationMetrics} class measures validations per class, path and constraint.
+ * <p>
+ * Metrics are off by default and are switched on with {@link #setEnabled(boolean)}, through the
+ * {@link ValidationMetricsMXBean}, or at startup with {@code -Dorg.example.validation.metrics=true}.
+ * While they are off, validation only reads one flag: no clock is read and nothing is recorded.
+ * While they are on, every validation updates {@link java.util.concurrent.atomic.LongAdder}
+ * counters and a latency histogram of its class, which are exposed as a
+ * {@link ClassValidationMXBean}, and emits a {@link ValidationEvent} to JFR when that event is
+ * enabled. For a failed throwing validation the violated constraint is found by re-running the
+ * non-throwing checks, which only costs time on the already slow exception path.
+ * </p>
+ * <p>
+ * Hand-written validators report themselves with {@link #start()} and
+ * {@link #recordManual(Class, long, boolean)}, as {@code Plane.validate()} does.
+ * </p>
+ */
+public final class ValidationMetrics {
+
+    private static final String DOMAIN = "org.example.annotations";
+
+    /**
+     * The start time returned by {@link #start()} while metrics are disabled; {@link System#nanoTime()}
+     * may return any value, including {@code 0}, so the sentinel is the one value that is never measured.
+     */
+    private static final long DISABLED = Long.MIN_VALUE;
+
+    private static volatile boolean enabled;
+
+    private static final ClassValue<ClassMetrics> METRICS = new ClassValue<>() {
+        @Override
+        protected ClassMetrics computeValue(Class<?> type) {
+            return new ClassMetrics(type);
+        }
+    };
+
+    private static final Map<Class<?>, ClassMetrics> CLASSES = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<ValidationResult> RESULTS = ThreadLocal.withInitial(ValidationResult::new);
+
+    static {
+        if (Boolean.getBoolean("org.example.validation.metrics")) {
+            setEnabled(true);
+        }
+    }
+
+    private ValidationMetrics() {
+    }
+
+    /**
+     * Returns whether validations are being measured.
+     *
+     * @return {@code true} if metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the measurement of validations on or off. The first time metrics are enabled,
+     * the {@link ValidationMetricsMXBean} is registered with the platform MBean server; the
+     * {@link ClassValidationMXBean} of a class is registered once metrics are enabled and the
+     * class has been measured or looked up.
+     *
+     * @param enabled {@code true} to enable metrics
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        if (enabled && !ValidationMetrics.enabled) {
+            register("type=ValidationMetrics", new Control());
+        }
+        ValidationMetrics.enabled = enabled;
+        if (enabled) {
+            for (ClassMetrics metrics : CLASSES.values()) {
+                registerClass(metrics);
+            }
+        }
+    }
+
+    /**
+     * Returns the metrics of the specified class.
+     *
+     * @param type the validated class
+     * @return a live view of the metrics of the class
+     */
+    public static ClassValidationMXBean forClass(Class<?> type) {
+        return metrics(type);
+    }
+
+    /**
+     * Resets the metrics of all classes.
+     */
+    public static void reset() {
+        for (ClassMetrics metrics : CLASSES.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Starts measuring a hand-written validation.
+     *
+     * @return the start time to pass to {@link #recordManual(Class, long, boolean)},
+     *         or {@link Long#MIN_VALUE} if metrics are disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Records a hand-written validation started with {@link #start()}.
+     *
+     * @param type the validated class
+     * @param start the value returned by {@link #start()}
+     * @param valid whether the object satisfied all constraints
+     */
+    public static void recordManual(Class<?> type, long start, boolean valid) {
+        if (start == DISABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        ClassMetrics metrics = metrics(type);
+        metrics.record(ValidationPath.MANUAL, nanos);
+        if (!valid) {
+            metrics.recordFailure(0, null);
+        }
+        emit(type, ValidationPath.MANUAL, valid, null, null, nanos);
+    }
+
+    /**
+     * Records a validation by {@link Validator#validate(Object)}.
+     */
+    static void recordThrowing(Object obj, long start, boolean valid) {
+        long nanos = System.nanoTime() - start;
+        Class<?> type = obj.getClass();
+        ValidationPath path = AdaptiveOrdering.isEnabled()
+                ? ValidationPath.ADAPTIVE
+                : ValidatorRegistry.find(type) != null
+                ? ValidationPath.GENERATED
+                : ValidationPlan.of(type).compiled != null ? ValidationPath.COMPILED : ValidationPath.REFLECTIVE;
+        ClassMetrics metrics = metrics(type);
+        metrics.record(path, nanos);
+        if (valid) {
+            emit(type, path, true, null, null, nanos);
+            return;
+        }
+        ValidationResult result = RESULTS.get();
+        Validator.collect(obj, result);
+        recordViolation(metrics, type, path, result, nanos);
+    }
+
+    /**
+     * Records a validation by {@link Validator#validate(Object, ValidationResult)}.
+     */
+    static void recordResult(Object obj, ValidationResult result, long start) {
+        long nanos = System.nanoTime() - start;
+        Class<?> type = obj.getClass();
+        ClassMetrics metrics = metrics(type);
+        metrics.record(ValidationPath.RESULT, nanos);
+        if (result.isValid()) {
+            emit(type, ValidationPath.RESULT, true, null, null, nanos);
+        } else {
+            recordViolation(metrics, type, ValidationPath.RESULT, result, nanos);
+        }
+    }
+
+    private static void recordViolation(ClassMetrics metrics, Class<?> type, ValidationPath path,
+                                        ValidationResult result, long nanos) {
+        if (result.isValid()) {
+            metrics.recordFailure(0, null);
+            emit(type, path, false, null, null, nanos);
+            return;
+        }
+        // Violations of nested objects are counted as failures without a field of this class.
+        metrics.recordFailure(result.fieldIndex(0), result.validatedClass(0) == type ? result.constraint(0) : null);
+        emit(type, path, false, result.fieldName(0), result.constraint(0).name(), nanos);
+    }
+
+    private static void emit(Class<?> type, ValidationPath path, boolean valid,
+                             String field, String constraint, long nanos) {
+        ValidationEvent event = new ValidationEvent();
+        if (event.shouldCommit()) {
+            event.validatedClass = type;
+            event.path = path.name();
+            event.valid = valid;
+            event.field = field;
+            event.constraint = constraint;
+            event.validationTime = nanos;
+            event.commit();
+        }
+    }
+
+    private static ClassMetrics metrics(Class<?> type) {
+        ClassMetrics metrics = METRICS.get(type);
+        CLASSES.putIfAbsent(type, metrics);
+        if (!metrics.registered && enabled) {
+            registerClass(metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * Registers the MBean of a class once; synchronized with {@link #setEnabled(boolean)}, which
+     * registers the classes looked up while metrics were disabled.
+     */
+    private static synchronized void registerClass(ClassMetrics metrics) {
+        if (!metrics.registered) {
+            metrics.registered = true;
+            register("type=ValidatedClass,name=" + ObjectName.quote(metrics.type.getName()), metrics);
+        }
+    }
+
+    private static void register(String properties, Object mbean) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, new ObjectName(DOMAIN + ":" + properties));
+        } catch (InstanceAlreadyExistsException e) {
+            // A class with the same name from another class loader is already registered.
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBean " + properties + ".", e);
+        }
+    }
+
+    /**
+     * The MBean controlling the metrics.
+     */
+    private static final class Control implements ValidationMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ValidationMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            ValidationMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public void reset() {
+            ValidationMetrics.reset();
+        }
+    }
+}
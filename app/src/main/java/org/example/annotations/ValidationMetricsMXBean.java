@@ -0,0 +1,30 @@
+package org.example.annotations;
+
+/**
+ * Management interface controlling {@link ValidationMetrics}.
+ * <p>
+ * Registered under {@code org.example.annotations:type=ValidationMetrics} when metrics are
+ * first enabled.
+ * </p>
+ */
+public interface ValidationMetricsMXBean {
+
+    /**
+     * Returns whether validations are being measured.
+     *
+     * @return {@code true} if metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns the measurement of validations on or off.
+     *
+     * @param enabled {@code true} to enable metrics
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Resets the metrics of all classes.
+     */
+    void reset();
+}
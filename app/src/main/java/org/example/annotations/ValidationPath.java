@@ -0,0 +1,37 @@
+package org.example.annotations;
+
+/**
+ * The ways an object can be validated, as reported by {@link ValidationMetrics}.
+ */
+public enum ValidationPath {
+
+    /**
+     * A validator generated at build time by the annotation processor.
+     */
+    GENERATED,
+
+    /**
+     * A validator generated at runtime as a hidden class.
+     */
+    COMPILED,
+
+    /**
+     * The reflective validation plan with exceptions.
+     */
+    REFLECTIVE,
+
+    /**
+     * The reflective validation plan with exceptions, in the order chosen by {@link AdaptiveOrdering}.
+     */
+    ADAPTIVE,
+
+    /**
+     * The non-throwing validation plan filling a {@link ValidationResult}.
+     */
+    RESULT,
+
+    /**
+     * Hand-written checks, such as {@code Plane.validate()}.
+     */
+    MANUAL
+}
@@ -0,0 +1,220 @@
+package org.example.annotations;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code ValidationPlan} class is the compiled form of the constraints declared on a class.
+ * <p>
+ * A plan is built once per class, on first use, and cached in a {@link ClassValue}.
+ * It flattens the class hierarchy: it lists the annotated fields of all superclasses first,
+ * then those of the class itself, each in declaration order, together with their parsed
+ * constraints, so later validations run without any further reflection lookups.
+ * Fields annotated with {@link Valid} are listed separately in {@link #cascadeFields}.
+ * </p>
+ * <p>
+ * Besides the full plan, partial plans restricted to a validation group or to a set of
+ * field names are built on demand and cached per class, so a partial validation only
+ * pays for the checks it runs. A group plan is built and compiled like the full plan, as
+ * there are only as many as there are groups. The plan of a set of field names only selects
+ * checks of the full plan and is not compiled; since callers may pass any number of
+ * distinct sets, only the 32 most recently used ones of each class are kept.
+ * </p>
+ * <p>
+ * When possible, the plan is also compiled into a {@link CompiledValidator} hidden class
+ * by {@link ValidatorGenerator}; {@link #compiled} is {@code null} otherwise.
+ * </p>
+ */
+final class ValidationPlan {
+
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            return new ValidationPlan(type, null);
+        }
+    };
+
+    /**
+     * Whether a class declares or inherits {@link Valid} fields, found without building its plan,
+     * so that classes validated by a {@link GeneratedValidator} never need one.
+     */
+    private static final ClassValue<Boolean> CASCADING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(Valid.class)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+
+    private static final ClassValue<Map<Class<?>, ValidationPlan>> GROUP_PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, ValidationPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final int FIELD_PLANS_PER_CLASS = 32;
+
+    private static final ClassValue<Map<Set<String>, ValidationPlan>> FIELD_PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Set<String>, ValidationPlan> computeValue(Class<?> type) {
+            return new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Set<String>, ValidationPlan> eldest) {
+                    return size() > FIELD_PLANS_PER_CLASS;
+                }
+            };
+        }
+    };
+
+    final Class<?> type;
+    final Class<?> group;
+    final boolean partial;
+    final FieldCheck[] checks;
+    final Field[] cascadeFields;
+    final FieldAccessor[] cascades;
+    final CompiledValidator compiled;
+    final boolean immutable;
+
+    private ValidationPlan(Class<?> type, Class<?> group) {
+        this.type = type;
+        this.group = group;
+        this.partial = group != null;
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        List<FieldCheck> checks = new ArrayList<>();
+        List<Field> cascadeFields = new ArrayList<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                boolean cascade = field.isAnnotationPresent(Valid.class);
+                if (FieldCheck.isConstrained(field)) {
+                    FieldCheck check = new FieldCheck(field, group);
+                    if (check.isActive()) {
+                        checks.add(check);
+                    }
+                } else if (!cascade) {
+                    continue;
+                }
+                if (cascade) {
+                    cascadeFields.add(field);
+                }
+            }
+        }
+        this.checks = checks.toArray(new FieldCheck[0]);
+        this.cascadeFields = cascadeFields.toArray(new Field[0]);
+        this.cascades = new FieldAccessor[this.cascadeFields.length];
+        for (int i = 0; i < cascades.length; i++) {
+            cascades[i] = FieldAccessor.of(this.cascadeFields[i]);
+        }
+        this.compiled = ValidatorGenerator.generate(this);
+        this.immutable = type.isAnnotationPresent(Immutable.class);
+    }
+
+    /**
+     * Selects the checks and cascades of the specified fields from the full plan of a class.
+     */
+    private ValidationPlan(ValidationPlan full, Set<String> fieldNames) {
+        this.type = full.type;
+        this.group = null;
+        this.partial = true;
+        Set<String> missing = new HashSet<>(fieldNames);
+        List<FieldCheck> checks = new ArrayList<>();
+        for (FieldCheck check : full.checks) {
+            if (fieldNames.contains(check.field.getName())) {
+                checks.add(check);
+                missing.remove(check.field.getName());
+            }
+        }
+        List<Field> cascadeFields = new ArrayList<>();
+        List<FieldAccessor> cascades = new ArrayList<>();
+        for (int i = 0; i < full.cascadeFields.length; i++) {
+            if (fieldNames.contains(full.cascadeFields[i].getName())) {
+                cascadeFields.add(full.cascadeFields[i]);
+                cascades.add(full.cascades[i]);
+                missing.remove(full.cascadeFields[i].getName());
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Class " + type.getSimpleName()
+                    + " has no constrained field '" + missing.iterator().next() + "'.");
+        }
+        this.checks = checks.toArray(new FieldCheck[0]);
+        this.cascadeFields = cascadeFields.toArray(new Field[0]);
+        this.cascades = cascades.toArray(new FieldAccessor[0]);
+        this.compiled = null;
+        this.immutable = full.immutable;
+    }
+
+    /**
+     * Returns the cached validation plan for the specified class, building it on first use.
+     *
+     * @param type the class to be validated
+     * @return the validation plan of the class
+     */
+    static ValidationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns whether the specified class declares or inherits {@link Valid} fields, without
+     * building its plan.
+     *
+     * @param type the class to be validated
+     * @return {@code true} if validation cascades from instances of the class
+     */
+    static boolean hasCascades(Class<?> type) {
+        return CASCADING.get(type);
+    }
+
+    /**
+     * Returns the cached plan of the constraints of a class that belong to a validation group.
+     *
+     * @param type the class to be validated
+     * @param group the validation group
+     * @return the validation plan of the group
+     */
+    static ValidationPlan of(Class<?> type, Class<?> group) {
+        Map<Class<?>, ValidationPlan> plans = GROUP_PLANS.get(type);
+        ValidationPlan plan = plans.get(group);
+        return plan != null ? plan : plans.computeIfAbsent(group, g -> new ValidationPlan(type, group));
+    }
+
+    /**
+     * Returns the plan of all constraints on the specified fields of a class, cached among the
+     * most recently used field sets of the class.
+     *
+     * @param type the class to be validated
+     * @param fieldNames the names of constrained or {@link Valid} fields
+     * @return the validation plan of the fields
+     * @throws IllegalArgumentException if a name does not denote such a field
+     */
+    static ValidationPlan of(Class<?> type, Set<String> fieldNames) {
+        Map<Set<String>, ValidationPlan> plans = FIELD_PLANS.get(type);
+        synchronized (plans) {
+            ValidationPlan plan = plans.get(fieldNames);
+            if (plan != null) {
+                return plan;
+            }
+        }
+        // Built outside the lock: the full plan of the class may still have to be built.
+        ValidationPlan plan = new ValidationPlan(of(type), fieldNames);
+        synchronized (plans) {
+            plans.put(Set.copyOf(fieldNames), plan);
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.annotations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code ValidationResult} class collects the violations found by
+ * {@link Validator#validate(Object, ValidationResult)} without throwing exceptions.
+ * <p>
+ * Each violation is recorded as a field index, a {@link Constraint} code and the violated
+ * bound. Error messages are looked up only when {@link #message(int)} or {@link #messages()}
+ * is called, so a rejected object costs no string building. The same instance can be reused
+ * for any number of validations; once its arrays have grown to the largest plan, validation
+ * allocates nothing. Instances are not thread-safe and are meant to be kept per thread.
+ * </p>
+ * <p>
+ * When the validated object cascades to others through {@link Valid} fields, violations of
+ * nested objects are recorded too; {@link #validatedClass(int)} tells which class they belong to.
+ * </p>
+ */
+public final class ValidationResult {
+
+    private final boolean collectAll;
+
+    private ValidationPlan current;
+    private int count;
+    private ValidationPlan[] plans = new ValidationPlan[4];
+    private int[] fieldIndexes = new int[4];
+    private Constraint[] constraints = new Constraint[4];
+    private int[] bounds = new int[4];
+    private int[] elements = new int[4];
+
+    /**
+     * Creates a result that stops at the first violation.
+     */
+    public ValidationResult() {
+        this(false);
+    }
+
+    /**
+     * Creates a result with the specified mode.
+     *
+     * @param collectAll {@code true} to report every failing field, {@code false} to stop at the first violation
+     */
+    public ValidationResult(boolean collectAll) {
+        this.collectAll = collectAll;
+    }
+
+    /**
+     * Returns whether this result reports every failing field.
+     *
+     * @return {@code true} if all violations are collected
+     */
+    public boolean isCollectAll() {
+        return collectAll;
+    }
+
+    /**
+     * Returns whether the last validated object satisfied all constraints.
+     *
+     * @return {@code true} if no violation was recorded
+     */
+    public boolean isValid() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of recorded violations.
+     *
+     * @return the number of violations
+     */
+    public int violationCount() {
+        return count;
+    }
+
+    /**
+     * Returns the class of the object that violated a constraint, which differs from the class
+     * of the validated object for violations found through {@link Valid} fields.
+     *
+     * @param i the index of the violation
+     * @return the class of the invalid object
+     */
+    public Class<?> validatedClass(int i) {
+        checkIndex(i);
+        return plans[i].type;
+    }
+
+    /**
+     * Returns the index of the violated field among the annotated fields of
+     * {@link #validatedClass(int)}, in declaration order. For a partial validation by group or
+     * field names, only the checked fields are counted.
+     *
+     * @param i the index of the violation
+     * @return the index of the field
+     */
+    public int fieldIndex(int i) {
+        checkIndex(i);
+        return fieldIndexes[i];
+    }
+
+    /**
+     * Returns the name of the violated field.
+     *
+     * @param i the index of the violation
+     * @return the name of the field
+     */
+    public String fieldName(int i) {
+        checkIndex(i);
+        return plans[i].checks[fieldIndexes[i]].field.getName();
+    }
+
+    /**
+     * Returns the code of the violated constraint.
+     *
+     * @param i the index of the violation
+     * @return the constraint code
+     */
+    public Constraint constraint(int i) {
+        checkIndex(i);
+        return constraints[i];
+    }
+
+    /**
+     * Returns the violated bound: the minimum or maximum length for {@link Constraint#STRING_LENGTH},
+     * the limit for {@link Constraint#MIN_VALUE} and {@link Constraint#MAX_VALUE}, and {@code 0} otherwise.
+     *
+     * @param i the index of the violation
+     * @return the violated bound
+     */
+    public int bound(int i) {
+        checkIndex(i);
+        return bounds[i];
+    }
+
+    /**
+     * Returns the index of the offending element for a violation of an array field.
+     *
+     * @param i the index of the violation
+     * @return the index of the element, or {@code -1} if the field is not an array
+     */
+    public int elementIndex(int i) {
+        checkIndex(i);
+        return elements[i];
+    }
+
+    /**
+     * Returns the message of a violation, identical to the one thrown by {@link Validator#validate(Object)}.
+     * The message is a constant of the {@link MessageCatalog} unless the violation is in an array element.
+     *
+     * @param i the index of the violation
+     * @return the error message
+     */
+    public String message(int i) {
+        checkIndex(i);
+        return format(plans[i].checks[fieldIndexes[i]], constraints[i], bounds[i], elements[i]);
+    }
+
+    /**
+     * Returns the message of a single violation.
+     *
+     * @param check the constraints of the violated field
+     * @param constraint the code of the violated constraint
+     * @param bound the violated bound
+     * @param element the index of the offending array element, or {@code -1}
+     * @return the error message
+     */
+    static String format(FieldCheck check, Constraint constraint, int bound, int element) {
+        String message = check.message(constraint);
+        if (element < 0 && message != null) {
+            return message;
+        }
+        String reason = MessageCatalog.reason(check, constraint, bound);
+        return Validator.getErrorMessage(check.field, element < 0 ? reason : "has element " + element + " that " + reason);
+    }
+
+    /**
+     * Formats the messages of all recorded violations.
+     *
+     * @return the error messages, in the order the violations were found
+     */
+    public List<String> messages() {
+        List<String> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(message(i));
+        }
+        return messages;
+    }
+
+    /**
+     * Returns the plan of the object that caused a violation.
+     */
+    ValidationPlan plan(int i) {
+        checkIndex(i);
+        return plans[i];
+    }
+
+    /**
+     * Clears the result before validating an object with the specified plan.
+     */
+    void reset(ValidationPlan plan) {
+        this.current = plan;
+        this.count = 0;
+    }
+
+    /**
+     * Attributes the following violations to a nested object with the specified plan.
+     */
+    void enter(ValidationPlan plan) {
+        this.current = plan;
+    }
+
+    /**
+     * Records a violation.
+     *
+     * @return {@code false}, so checks can report a failure with a single return statement
+     */
+    boolean add(int fieldIndex, Constraint constraint, int bound) {
+        return add(fieldIndex, constraint, bound, -1);
+    }
+
+    /**
+     * Records a violation of an array element.
+     *
+     * @return {@code false}, so checks can report a failure with a single return statement
+     */
+    boolean add(int fieldIndex, Constraint constraint, int bound, int element) {
+        if (count == fieldIndexes.length) {
+            int capacity = count * 2;
+            fieldIndexes = Arrays.copyOf(fieldIndexes, capacity);
+            constraints = Arrays.copyOf(constraints, capacity);
+            bounds = Arrays.copyOf(bounds, capacity);
+            plans = Arrays.copyOf(plans, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+        elements[count] = element;
+        plans[count] = current;
+        fieldIndexes[count] = fieldIndex;
+        constraints[count] = constraint;
+        bounds[count] = bound;
+        count++;
+        return false;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Violation index " + i + " out of bounds for " + count + " violations.");
+        }
+    }
+}
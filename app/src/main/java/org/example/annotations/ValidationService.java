@@ -0,0 +1,364 @@
+package org.example.annotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code ValidationService} class validates objects submitted concurrently, for example from
+ * many virtual threads, by coalescing them into micro-batches per class.
+ * <p>
+ * Each class has its own lane. A submission is appended to the lane of its class and returns a
+ * {@link CompletableFuture} at once. A lane is flushed when it holds {@code maxBatchSize}
+ * objects or when its oldest submission has waited {@code maxWait}, whichever comes first.
+ * A batch runs on the executor through the validation plan of its class, which is looked up
+ * once per batch, with one {@link ValidationResult} reused for all its objects. Each future
+ * completes with {@code null} if its object is valid, or exceptionally with the
+ * {@link IllegalArgumentException} (or {@link IllegalStateException} for a type mismatch)
+ * that {@link Validator#validate(Object)} would throw, with the same message. Like
+ * {@link Validator#validate(Object, ValidationResult)}, a successful validation clears the
+ * {@link DirtyFields} of a {@link DirtyTracking} object.
+ * </p>
+ * <p>
+ * Lanes are guarded by {@link ReentrantLock}s rather than monitors, so submitting virtual
+ * threads never pin their carrier. Throughput, batch sizes and latency percentiles are
+ * available through {@link ValidationServiceMXBean}, which the service implements so that it
+ * can be registered with an MBean server.
+ * </p>
+ * <pre>{@code
+ * try (ValidationService service = new ValidationService(256, Duration.ofMillis(1))) {
+ *     service.submit(gamer).join();
+ * }
+ * }</pre>
+ */
+public final class ValidationService implements ValidationServiceMXBean, AutoCloseable {
+
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final Map<Class<?>, Lane> lanes = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile long since = System.nanoTime();
+
+    /**
+     * Creates a service with batches of at most 256 objects, a maximum wait of one
+     * millisecond, and batches run on the common {@link ForkJoinPool}.
+     */
+    public ValidationService() {
+        this(256, Duration.ofMillis(1));
+    }
+
+    /**
+     * Creates a service whose batches run on the common {@link ForkJoinPool}.
+     *
+     * @param maxBatchSize the number of objects that flushes a lane immediately
+     * @param maxWait the longest time a submission waits for its batch to fill
+     */
+    public ValidationService(int maxBatchSize, Duration maxWait) {
+        this(maxBatchSize, maxWait, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a service with the specified batching limits and executor.
+     *
+     * @param maxBatchSize the number of objects that flushes a lane immediately
+     * @param maxWait the longest time a submission waits for its batch to fill
+     * @param executor the executor running the batches
+     */
+    public ValidationService(int maxBatchSize, Duration maxWait, Executor executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be positive, was " + maxBatchSize + ".");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("Maximum wait must not be negative, was " + maxWait + ".");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executor = executor;
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "validation-service-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.timer = scheduler;
+    }
+
+    /**
+     * Submits an object for validation in the next batch of its class.
+     *
+     * @param obj the object to be validated
+     * @return a future completed with {@code null} if the object is valid, or exceptionally with the violation
+     * @throws RejectedExecutionException if the service is closed
+     */
+    public CompletableFuture<Void> submit(Object obj) {
+        if (closed) {
+            throw new RejectedExecutionException("Validation service is closed.");
+        }
+        Request request = new Request(obj, System.nanoTime());
+        submitted.increment();
+        lanes.computeIfAbsent(obj.getClass(), Lane::new).add(request);
+        return request.future;
+    }
+
+    /**
+     * Flushes all pending submissions and stops the timer; batches already handed to the
+     * executor still complete.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Lane lane : lanes.values()) {
+            lane.flush();
+        }
+        timer.shutdownNow();
+    }
+
+    @Override
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    @Override
+    public double getMeanBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) completed.sum() / count;
+    }
+
+    @Override
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - since;
+        return elapsed <= 0 ? 0 : completed.sum() * 1e9 / elapsed;
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.mean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.percentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.percentile(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.percentile(99.9);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.max();
+    }
+
+    @Override
+    public void reset() {
+        submitted.reset();
+        completed.reset();
+        failures.reset();
+        batches.reset();
+        latency.reset();
+        since = System.nanoTime();
+    }
+
+    private void dispatch(Lane lane, List<Request> batch) {
+        try {
+            executor.execute(() -> run(lane.plan, batch));
+        } catch (RejectedExecutionException e) {
+            for (Request request : batch) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void run(ValidationPlan plan, List<Request> batch) {
+        ValidationResult result = new ValidationResult();
+        int invalid = 0;
+        for (Request request : batch) {
+            try {
+                if (Validator.collect(request.obj, plan, result)) {
+                    Validator.clearDirtyFields(request.obj);
+                    request.future.complete(null);
+                } else {
+                    invalid++;
+                    request.future.completeExceptionally(violation(result));
+                }
+            } catch (RuntimeException e) {
+                invalid++;
+                request.future.completeExceptionally(e);
+            }
+            latency.record(System.nanoTime() - request.submitted);
+        }
+        completed.add(batch.size());
+        failures.add(invalid);
+        batches.increment();
+    }
+
+    private static RuntimeException violation(ValidationResult result) {
+        String message = result.message(0);
+        return switch (result.constraint(0)) {
+            case STRING_TYPE, INTEGER_TYPE, NUMBER_TYPE -> new IllegalStateException(message);
+            default -> new IllegalArgumentException(message);
+        };
+    }
+
+    /**
+     * A pending validation and the future of its caller.
+     */
+    private static final class Request {
+
+        final Object obj;
+        final long submitted;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Request(Object obj, long submitted) {
+            this.obj = obj;
+            this.submitted = submitted;
+        }
+    }
+
+    /**
+     * The pending submissions of one class.
+     */
+    private final class Lane {
+
+        final ValidationPlan plan;
+        private final ReentrantLock lock = new ReentrantLock();
+        private List<Request> pending = new ArrayList<>();
+        private boolean timerArmed;
+        // Counts the batches taken, so that a flush scheduled for an earlier batch does nothing.
+        private long taken;
+        private ScheduledFuture<?> timeout;
+
+        Lane(Class<?> type) {
+            this.plan = ValidationPlan.of(type);
+        }
+
+        void add(Request request) {
+            List<Request> batch = null;
+            long armed = -1;
+            lock.lock();
+            try {
+                pending.add(request);
+                if (pending.size() >= maxBatchSize || maxWaitNanos == 0 || closed) {
+                    batch = take();
+                } else if (!timerArmed) {
+                    timerArmed = true;
+                    armed = taken;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (batch != null) {
+                dispatch(this, batch);
+            } else if (armed >= 0) {
+                long number = armed;
+                ScheduledFuture<?> scheduled;
+                try {
+                    scheduled = timer.schedule(() -> expire(number), maxWaitNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // The service was closed concurrently; close() flushes this lane.
+                    flush();
+                    return;
+                }
+                lock.lock();
+                try {
+                    if (taken == number) {
+                        timeout = scheduled;
+                    } else {
+                        // The batch filled up while the flush was being scheduled.
+                        scheduled.cancel(false);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Flushes the batch the timer was armed for, unless it was already taken.
+         */
+        private void expire(long number) {
+            List<Request> batch;
+            lock.lock();
+            try {
+                if (taken != number || pending.isEmpty()) {
+                    return;
+                }
+                batch = take();
+            } finally {
+                lock.unlock();
+            }
+            dispatch(this, batch);
+        }
+
+        void flush() {
+            List<Request> batch;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    timerArmed = false;
+                    return;
+                }
+                batch = take();
+            } finally {
+                lock.unlock();
+            }
+            dispatch(this, batch);
+        }
+
+        /**
+         * Takes the pending submissions and cancels the flush scheduled for them; called with the lock held.
+         */
+        private List<Request> take() {
+            List<Request> batch = pending;
+            pending = new ArrayList<>(Math.min(maxBatchSize, 1024));
+            timerArmed = false;
+            taken++;
+            if (timeout != null) {
+                timeout.cancel(false);
+                timeout = null;
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.annotations;
+
+/**
+ * Management interface exposing the batching statistics of a {@link ValidationService}.
+ * <p>
+ * Latencies are measured from submission to completion of the caller's future, so they
+ * include the time spent waiting for a batch to fill.
+ * </p>
+ */
+public interface ValidationServiceMXBean {
+
+    /**
+     * Returns the number of submitted validations.
+     *
+     * @return the number of submissions
+     */
+    long getSubmitted();
+
+    /**
+     * Returns the number of completed validations, valid or not.
+     *
+     * @return the number of completions
+     */
+    long getCompleted();
+
+    /**
+     * Returns the number of completed validations that found a violation.
+     *
+     * @return the number of failed validations
+     */
+    long getFailures();
+
+    /**
+     * Returns the number of executed batches.
+     *
+     * @return the number of batches
+     */
+    long getBatches();
+
+    /**
+     * Returns the average number of validations per batch.
+     *
+     * @return the mean batch size, or {@code 0} before the first batch
+     */
+    double getMeanBatchSize();
+
+    /**
+     * Returns the number of completed validations per second since creation or the last reset.
+     *
+     * @return the throughput
+     */
+    double getThroughput();
+
+    /**
+     * Returns the mean latency from submission to completion.
+     *
+     * @return the mean latency in nanoseconds
+     */
+    double getMeanNanos();
+
+    /**
+     * Returns the median latency from submission to completion.
+     *
+     * @return the 50th percentile in nanoseconds
+     */
+    long getP50Nanos();
+
+    /**
+     * Returns the 99th percentile of the latency from submission to completion.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    long getP99Nanos();
+
+    /**
+     * Returns the 99.9th percentile of the latency from submission to completion.
+     *
+     * @return the 99.9th percentile in nanoseconds
+     */
+    long getP999Nanos();
+
+    /**
+     * Returns the maximum latency from submission to completion.
+     *
+     * @return the maximum in nanoseconds
+     */
+    long getMaxNanos();
+
+    /**
+     * Resets all statistics.
+     */
+    void reset();
+}
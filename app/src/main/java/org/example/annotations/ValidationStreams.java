@@ -0,0 +1,64 @@
+package org.example.annotations;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The {@code ValidationStreams} class provides lazy validation stages for {@link Stream} pipelines.
+ * <p>
+ * Elements are validated one at a time as the stream pulls them, with the non-throwing
+ * {@link Validator#validate(Object, ValidationResult)} and the cached per-class plans.
+ * Valid elements continue downstream; invalid ones are handed to a separate sink together
+ * with their {@link ValidationResult}. Nothing is buffered, so the input can be arbitrarily
+ * large. The result passed to the sink is reused for the next element of the same thread and
+ * must not be retained.
+ * </p>
+ * <pre>{@code
+ * ValidationStreams.<Item>validating((item, result) -> rejected.add(result.message(0)))
+ *         .apply(lines.map(Item::parse))
+ *         .forEach(accepted::add);
+ * }</pre>
+ *
+ * @see ValidatingProcessor
+ */
+public final class ValidationStreams {
+
+    private ValidationStreams() {
+    }
+
+    /**
+     * Returns a predicate for {@link Stream#filter(Predicate)} that keeps valid elements and
+     * routes invalid ones to the specified sink. The predicate may be used by parallel streams;
+     * each thread reuses its own result.
+     *
+     * @param invalidSink receives each invalid element with its violations
+     * @param <T> the type of the elements
+     * @return the routing predicate
+     */
+    public static <T> Predicate<T> routing(BiConsumer<? super T, ? super ValidationResult> invalidSink) {
+        ThreadLocal<ValidationResult> results = ThreadLocal.withInitial(ValidationResult::new);
+        return element -> {
+            ValidationResult result = results.get();
+            if (Validator.validate(element, result)) {
+                return true;
+            }
+            invalidSink.accept(element, result);
+            return false;
+        };
+    }
+
+    /**
+     * Returns a stage that applies {@link #routing(BiConsumer)} to a stream, so that only
+     * valid elements reach the rest of the pipeline.
+     *
+     * @param invalidSink receives each invalid element with its violations
+     * @param <T> the type of the elements
+     * @return the validation stage
+     */
+    public static <T> Function<Stream<T>, Stream<T>> validating(BiConsumer<? super T, ? super ValidationResult> invalidSink) {
+        Predicate<T> routing = routing(invalidSink);
+        return stream -> stream.filter(routing);
+    }
+}
@@ -0,0 +1,280 @@
+package org.example.annotations;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * The {@code ValidationWarmup} class prepares validation plans at startup, so that the first
+ * {@link Validator#validate(Object)} call of a class costs no more than later ones.
+ * <p>
+ * {@link #scan(String...)} finds the classes of the given packages, in directories and jars of
+ * the class path, that declare or inherit constrained or {@link Valid} fields. {@link #warmUp(Collection)}
+ * then builds their plans in parallel on the common {@link java.util.concurrent.ForkJoinPool}:
+ * annotations are parsed, accessors and compiled validators are created, messages are taken
+ * from the {@link MessageCatalog}, and the generated validators of the {@link ValidatorRegistry}
+ * are loaded.
+ * </p>
+ * <p>
+ * Scanning the class path is the slowest part of the warm-up, so the list of validated classes
+ * and their constrained fields can be written to an index file and read back at the next start
+ * by {@link #warmUp(Path, String...)}. The plans themselves hold reflective handles and generated
+ * classes, which cannot be serialized; they are rebuilt from the index, which is stale and
+ * replaced if a class is missing or its fields changed. Combined with an AppCDS archive
+ * ({@code -XX:ArchiveClassesAtExit}) of a run that performed the warm-up, the validated classes
+ * are also loaded from the archive instead of being parsed.
+ * </p>
+ * <pre>{@code
+ * ValidationWarmup.warmUp(Path.of("validation.idx"), "org.example");
+ * }</pre>
+ */
+public final class ValidationWarmup {
+
+    private static final String INDEX_HEADER = "# validation plan index 1";
+
+    private ValidationWarmup() {
+    }
+
+    /**
+     * Finds the classes of the specified packages and their subpackages that have constrained
+     * or {@link Valid} fields, including inherited ones. Classes are loaded without being initialized.
+     *
+     * @param packageNames the packages to scan, such as {@code "org.example"}
+     * @return the validated classes, sorted by name
+     * @throws IOException if a directory or jar of the class path cannot be read
+     */
+    public static List<Class<?>> scan(String... packageNames) throws IOException {
+        ClassLoader loader = classLoader();
+        Set<String> classNames = new TreeSet<>();
+        for (String packageName : packageNames) {
+            String path = packageName.replace('.', '/');
+            Enumeration<URL> roots = loader.getResources(path);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                switch (root.getProtocol()) {
+                    case "file" -> scanDirectory(toPath(root), packageName, classNames);
+                    case "jar" -> scanJar(root, path, classNames);
+                    default -> {
+                        // Other sources, such as jrt: modules, hold no application classes.
+                    }
+                }
+            }
+        }
+        List<Class<?>> types = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> type = load(className, loader);
+            if (type != null && isValidated(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Builds and caches the validation plans of the specified classes in parallel.
+     *
+     * @param types the classes to prepare
+     * @return the number of prepared classes
+     * @throws IllegalStateException if the annotations of a class are invalid
+     */
+    public static int warmUp(Collection<Class<?>> types) {
+        ValidatorRegistry.find(Object.class);
+        types.parallelStream().forEach(ValidationWarmup::prepare);
+        return types.size();
+    }
+
+    /**
+     * Scans the specified packages and builds the plans of all validated classes found.
+     *
+     * @param packageNames the packages to scan
+     * @return the prepared classes
+     * @throws IOException if the class path cannot be read
+     */
+    public static List<Class<?>> warmUpPackages(String... packageNames) throws IOException {
+        List<Class<?>> types = scan(packageNames);
+        warmUp(types);
+        return types;
+    }
+
+    /**
+     * Builds the plans of the classes listed in an index file, or scans the specified packages
+     * and writes the index if the file does not exist or is stale.
+     *
+     * @param index the index file
+     * @param packageNames the packages to scan when the index cannot be used
+     * @return the prepared classes
+     * @throws IOException if the index or the class path cannot be read, or the index cannot be written
+     */
+    public static List<Class<?>> warmUp(Path index, String... packageNames) throws IOException {
+        if (Files.isRegularFile(index)) {
+            List<Class<?>> types = readIndex(index);
+            if (types != null) {
+                warmUp(types);
+                return types;
+            }
+        }
+        List<Class<?>> types = warmUpPackages(packageNames);
+        writeIndex(index, types);
+        return types;
+    }
+
+    /**
+     * Writes the names of the specified classes and of their constrained fields to an index file.
+     *
+     * @param index the index file, replaced if it exists
+     * @param types the validated classes
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeIndex(Path index, Collection<Class<?>> types) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            writer.write(INDEX_HEADER);
+            writer.newLine();
+            for (Class<?> type : types) {
+                writer.write(type.getName());
+                writer.write(' ');
+                writer.write(String.join(",", constrainedFields(type)));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads the classes listed in an index file written by {@link #writeIndex(Path, Collection)}.
+     *
+     * @param index the index file
+     * @return the listed classes, or {@code null} if the index is stale
+     * @throws IOException if the file cannot be read
+     */
+    public static List<Class<?>> readIndex(Path index) throws IOException {
+        List<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(INDEX_HEADER)) {
+            return null;
+        }
+        ClassLoader loader = classLoader();
+        Map<Class<?>, String> fields = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            int space = line.indexOf(' ');
+            Class<?> type = load(space < 0 ? line : line.substring(0, space), loader);
+            if (type == null) {
+                return null;
+            }
+            fields.put(type, space < 0 ? "" : line.substring(space + 1));
+        }
+        for (Map.Entry<Class<?>, String> entry : fields.entrySet()) {
+            if (!String.join(",", constrainedFields(entry.getKey())).equals(entry.getValue())) {
+                return null;
+            }
+        }
+        return new ArrayList<>(fields.keySet());
+    }
+
+    private static void prepare(Class<?> type) {
+        ValidationPlan.of(type);
+        if (AdaptiveOrdering.isEnabled()) {
+            AdaptivePlan.of(type);
+        }
+    }
+
+    /**
+     * Returns whether the class or one of its superclasses declares a constrained or {@link Valid} field.
+     */
+    private static boolean isValidated(Class<?> type) {
+        try {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (FieldCheck.isConstrained(field) || field.isAnnotationPresent(Valid.class)) {
+                        return true;
+                    }
+                }
+            }
+        } catch (LinkageError e) {
+            // A field type is missing from the class path; such a class cannot be validated.
+        }
+        return false;
+    }
+
+    private static List<String> constrainedFields(Class<?> type) {
+        List<String> names = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            List<String> declared = new ArrayList<>();
+            for (Field field : c.getDeclaredFields()) {
+                if (FieldCheck.isConstrained(field) || field.isAnnotationPresent(Valid.class)) {
+                    declared.add(field.getName());
+                }
+            }
+            names.addAll(0, declared);
+        }
+        return names;
+    }
+
+    private static void scanDirectory(Path directory, String packageName, Set<String> classNames) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".class"))
+                    .forEach(file -> addClass(packageName.replace('.', '/') + "/"
+                            + directory.relativize(file).toString().replace('\\', '/'), classNames));
+        }
+    }
+
+    private static void scanJar(URL root, String path, Set<String> classNames) throws IOException {
+        URLConnection connection = root.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(path + "/") && name.endsWith(".class")) {
+                    addClass(name, classNames);
+                }
+            }
+        }
+    }
+
+    private static void addClass(String resource, Set<String> classNames) {
+        if (resource.endsWith("module-info.class") || resource.endsWith("package-info.class")) {
+            return;
+        }
+        classNames.add(resource.substring(0, resource.length() - ".class".length()).replace('/', '.'));
+    }
+
+    private static Class<?> load(String className, ClassLoader loader) {
+        try {
+            return Class.forName(className, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid class path entry " + url + ".", e);
+        }
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : ValidationWarmup.class.getClassLoader();
+    }
+}
@@ -0,0 +1,703 @@
+package org.example.annotations;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@code Validator} class provides a method to validate fields of an object
+ * based on custom annotations.
+ * <p>
+ * The validation checks for various constraints like {@link NotNull}, {@link StringLength},
+ * {@link MaxValue}, and {@link MinValue}.
+ * </p>
+ */
+public class Validator {
+
+    /**
+     * Validates the fields of the specified object based on the annotations present
+     * on those fields.
+     * <p>
+     * Validators generated at build time are looked up in the {@link ValidatorRegistry} first.
+     * For other classes the annotations are parsed once per class into a cached
+     * {@link ValidationPlan}; later calls only read the annotated fields and compare them
+     * with the parsed bounds. If the plan was compiled into a {@link CompiledValidator}, that generated class runs
+     * the checks; otherwise fields are read through a {@link FieldAccessor}, so {@code int}
+     * fields are checked without boxing.
+     * </p>
+     * <p>
+     * Annotated fields inherited from superclasses are checked as well. Objects referenced by
+     * {@link Valid} fields are then validated in turn, iteratively and at most once each, so
+     * cyclic graphs terminate; the first violation anywhere in the graph is thrown.
+     * </p>
+     * <p>
+     * When {@link AdaptiveOrdering} is enabled, the plan runs in the order learned for the class instead.
+     * When {@link ValidationMetrics} are enabled, the call is timed and counted per class.
+     * </p>
+     * <p>
+     * A successful validation of a {@link DirtyTracking} object clears its {@link DirtyFields},
+     * so a following {@link #revalidate(Object)} only checks the fields changed afterwards.
+     * </p>
+     *
+     * @param obj the object to be validated
+     * @throws Exception if any validation fails
+     */
+
+    public static void validate(Object obj) throws Exception {
+        if (!ValidationMetrics.isEnabled()) {
+            validateDirect(obj);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            validateDirect(obj);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            ValidationMetrics.recordThrowing(obj, start, false);
+            throw e;
+        }
+        ValidationMetrics.recordThrowing(obj, start, true);
+    }
+
+    /**
+     * Runs the fastest available validator for the class of the object and of the objects
+     * it cascades to, without metrics.
+     *
+     * @param obj the object to be validated
+     * @throws Exception if any validation fails
+     */
+
+    private static void validateDirect(Object obj) throws Exception {
+        validateObject(obj);
+        // A generated validator never needs the plan, unless the class cascades.
+        if (ValidationPlan.hasCascades(obj.getClass())) {
+            GraphValidator.validate(obj, ValidationPlan.of(obj.getClass()));
+        }
+        clearDirtyFields(obj);
+    }
+
+    /**
+     * Validates the object itself, without following its {@link Valid} fields.
+     *
+     * @param obj the object to be validated
+     * @throws Exception if any validation fails
+     */
+
+    static void validateObject(Object obj) throws Exception {
+        if (AdaptiveOrdering.isEnabled()) {
+            AdaptivePlan.of(obj.getClass()).validate(obj);
+            return;
+        }
+        GeneratedValidator generated = ValidatorRegistry.find(obj.getClass());
+        if (generated != null) {
+            generated.validate(obj);
+            return;
+        }
+        validatePlan(obj, ValidationPlan.of(obj.getClass()));
+    }
+
+    /**
+     * Runs the checks of the specified plan on the object, through its compiled validator if it has one.
+     *
+     * @param obj the object to be validated
+     * @param plan the full or partial validation plan of the object
+     * @throws Exception if any validation fails
+     */
+
+    static void validatePlan(Object obj, ValidationPlan plan) throws Exception {
+        if (plan.compiled != null) {
+            plan.compiled.validate(obj);
+            return;
+        }
+        for (FieldCheck check : plan.checks) {
+            validateField(check, obj);
+        }
+    }
+
+    /**
+     * Validates a single field, checking {@link NotNull}, {@link StringLength}, {@link Pattern},
+     * {@link MaxValue} and {@link MinValue} in that order.
+     *
+     * @param check the parsed constraints of the field
+     * @param obj the object to be validated
+     * @throws Exception if the field violates a constraint or cannot be read
+     */
+
+    static void validateField(FieldCheck check, Object obj) throws Exception {
+        if (check.numeric != null) {
+            // The checker covers every constraint of the field; FieldCheck rejects any other.
+            validateNumeric(check, obj);
+            return;
+        }
+
+        if (check.intField) {
+            validateInt(check, check.accessor.getInt(obj));
+            return;
+        }
+
+        Object value = check.accessor.get(obj);
+
+        if (check.notNull) {
+            validateNotNull(check, value);
+        }
+        if (check.hasLength) {
+            if (value instanceof String strValue) {
+                validateStringLength(check, strValue);
+            } else {
+                throw new IllegalStateException(check.message(Constraint.STRING_TYPE));
+            }
+        }
+        if (check.pattern != null && value != null) {
+            if (value instanceof String strValue) {
+                validatePattern(check, strValue);
+            } else {
+                throw new IllegalStateException(check.message(Constraint.STRING_TYPE));
+            }
+        }
+        if (check.hasRange()) {
+            if (value instanceof Integer intValue) {
+                validateRange(check, intValue);
+            } else {
+                throw new IllegalStateException(check.message(Constraint.INTEGER_TYPE));
+            }
+        }
+    }
+
+    /**
+     * Validates the fields of the specified object without throwing on violations.
+     * <p>
+     * Violations are recorded in the supplied {@link ValidationResult} as structured codes,
+     * and messages are formatted only on request. Depending on the mode of the result, either
+     * the first violation or the first violation of every field is recorded.
+     * </p>
+     * <p>
+     * Objects referenced by {@link Valid} fields, including inherited ones, are validated as well,
+     * after the object itself. A successful validation clears the {@link DirtyFields} of a
+     * {@link DirtyTracking} object, as {@link #validate(Object)} does.
+     * </p>
+     *
+     * @param obj the object to be validated
+     * @param result the result to be cleared and filled
+     * @return {@code true} if the object satisfies all constraints
+     * @throws IllegalStateException if a field value cannot be read
+     */
+
+    public static boolean validate(Object obj, ValidationResult result) {
+        boolean valid;
+        if (!ValidationMetrics.isEnabled()) {
+            valid = collect(obj, result);
+        } else {
+            long start = System.nanoTime();
+            valid = collect(obj, result);
+            ValidationMetrics.recordResult(obj, result, start);
+        }
+        if (valid) {
+            clearDirtyFields(obj);
+        }
+        return valid;
+    }
+
+    /**
+     * Validates only the constraints of the specified validation group.
+     * <p>
+     * A constraint belongs to the groups listed in its {@code groups} element, or to
+     * {@link Default} if it lists none, and is also checked for every group extending one of
+     * them. The plan of each (class, group) pair is built and compiled once, so the cost of a
+     * call is proportional to the checks in the group. Objects referenced by {@link Valid}
+     * fields are validated with the same group. Partial validations are not recorded by
+     * {@link ValidationMetrics}.
+     * </p>
+     *
+     * @param obj the object to be validated
+     * @param group the validation group, such as {@link Default}
+     * @throws Exception if any validation of the group fails
+     */
+
+    public static void validate(Object obj, Class<?> group) throws Exception {
+        validatePartial(obj, ValidationPlan.of(obj.getClass(), group));
+    }
+
+    /**
+     * Validates only the constraints of the specified validation group without throwing on violations.
+     *
+     * @param obj the object to be validated
+     * @param group the validation group, such as {@link Default}
+     * @param result the result to be cleared and filled
+     * @return {@code true} if the object satisfies all constraints of the group
+     * @see #validate(Object, Class)
+     */
+
+    public static boolean validate(Object obj, Class<?> group, ValidationResult result) {
+        return collect(obj, ValidationPlan.of(obj.getClass(), group), result);
+    }
+
+    /**
+     * Validates all constraints of the specified fields only, for example the fields changed by
+     * a partial update. The plan of a set of names selects the checks of the full plan of the class
+     * and is kept among the most recently used sets, so any number of distinct sets can be passed.
+     * Objects referenced by the named {@link Valid} fields are validated in full.
+     *
+     * @param obj the object to be validated
+     * @param fieldNames the names of constrained or {@link Valid} fields, without duplicates
+     * @throws IllegalArgumentException if a name does not denote such a field, or if any validation fails
+     * @throws Exception if any validation fails
+     */
+
+    public static void validateFields(Object obj, String... fieldNames) throws Exception {
+        validatePartial(obj, ValidationPlan.of(obj.getClass(), Set.of(fieldNames)));
+    }
+
+    /**
+     * Validates all constraints of the specified fields only, without throwing on violations.
+     *
+     * @param obj the object to be validated
+     * @param result the result to be cleared and filled
+     * @param fieldNames the names of constrained or {@link Valid} fields, without duplicates
+     * @return {@code true} if the fields satisfy all their constraints
+     * @throws IllegalArgumentException if a name does not denote such a field
+     * @see #validateFields(Object, String...)
+     */
+
+    public static boolean validateFields(Object obj, ValidationResult result, String... fieldNames) {
+        return collect(obj, ValidationPlan.of(obj.getClass(), Set.of(fieldNames)), result);
+    }
+
+    /**
+     * Validates only the fields changed since the last successful validation of the object.
+     * <p>
+     * For an object implementing {@link DirtyTracking}, only the fields marked in its
+     * {@link DirtyFields} are checked, in plan order, and the mark of each field that passes is
+     * cleared, so the cost of a revalidation is proportional to the edit. A field that fails stays
+     * dirty and is checked again next time. Objects referenced by {@link Valid} fields are not
+     * tracked and are validated in full. Other objects are validated with {@link #validate(Object)}.
+     * </p>
+     *
+     * @param obj the object to be revalidated
+     * @throws Exception if a changed field violates its constraints
+     */
+
+    public static void revalidate(Object obj) throws Exception {
+        DirtyFields dirty = dirtyFields(obj);
+        if (dirty == null) {
+            validate(obj);
+            return;
+        }
+        ValidationPlan plan = dirty.plan;
+        for (int i = dirty.next(0); i >= 0; i = dirty.next(i + 1)) {
+            validateField(plan.checks[i], obj);
+            dirty.clear(i);
+        }
+        if (plan.cascades.length > 0) {
+            GraphValidator.validate(obj, plan);
+        }
+    }
+
+    /**
+     * Validates only the fields changed since the last successful validation of the object,
+     * without throwing on violations.
+     *
+     * @param obj the object to be revalidated
+     * @param result the result to be cleared and filled
+     * @return {@code true} if the changed fields satisfy all their constraints
+     * @see #revalidate(Object)
+     */
+
+    public static boolean revalidate(Object obj, ValidationResult result) {
+        DirtyFields dirty = dirtyFields(obj);
+        if (dirty == null) {
+            return validate(obj, result);
+        }
+        ValidationPlan plan = dirty.plan;
+        result.reset(plan);
+        boolean valid = true;
+        for (int i = dirty.next(0); i >= 0; i = dirty.next(i + 1)) {
+            if (check(plan.checks[i], i, obj, result)) {
+                dirty.clear(i);
+            } else {
+                valid = false;
+                if (!result.isCollectAll()) {
+                    return false;
+                }
+            }
+        }
+        if (plan.cascades.length == 0 || !valid && !result.isCollectAll()) {
+            return valid;
+        }
+        return GraphValidator.collect(obj, plan, result);
+    }
+
+    /**
+     * Returns the dirty-field set of a tracked object, or {@code null} if the object is not
+     * tracked or its set was created for another class.
+     */
+    private static DirtyFields dirtyFields(Object obj) {
+        if (obj instanceof DirtyTracking tracked) {
+            DirtyFields dirty = tracked.dirtyFields();
+            if (dirty.plan.type == obj.getClass()) {
+                return dirty;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks every field of a tracked object as valid after a successful full validation.
+     */
+    static void clearDirtyFields(Object obj) {
+        if (obj instanceof DirtyTracking tracked) {
+            DirtyFields dirty = tracked.currentDirtyFields();
+            if (dirty != null && dirty.plan.type == obj.getClass()) {
+                dirty.clearAll();
+            }
+        }
+    }
+
+    private static void validatePartial(Object obj, ValidationPlan plan) throws Exception {
+        validatePlan(obj, plan);
+        if (plan.cascades.length > 0) {
+            GraphValidator.validate(obj, plan);
+        }
+    }
+
+    /**
+     * Runs the validation plan of the object into the result, without metrics.
+     *
+     * @param obj the object to be validated
+     * @param result the result to be cleared and filled
+     * @return {@code true} if the object satisfies all constraints
+     */
+
+    static boolean collect(Object obj, ValidationResult result) {
+        return collect(obj, ValidationPlan.of(obj.getClass()), result);
+    }
+
+    static boolean collect(Object obj, ValidationPlan plan, ValidationResult result) {
+        result.reset(plan);
+        boolean valid = collectObject(obj, plan, result);
+        if (plan.cascades.length == 0 || !valid && !result.isCollectAll()) {
+            return valid;
+        }
+        return GraphValidator.collect(obj, plan, result);
+    }
+
+    /**
+     * Runs the checks of a single object into the result, without following its {@link Valid} fields.
+     *
+     * @param obj the object to be validated
+     * @param plan the validation plan of the object
+     * @param result the result receiving the violations
+     * @return {@code true} if the object satisfies all constraints
+     */
+
+    static boolean collectObject(Object obj, ValidationPlan plan, ValidationResult result) {
+        if (AdaptiveOrdering.isEnabled() && !result.isCollectAll() && !plan.partial) {
+            return AdaptivePlan.of(obj.getClass()).collect(obj, result);
+        }
+        boolean valid = true;
+        FieldCheck[] checks = plan.checks;
+        for (int i = 0; i < checks.length; i++) {
+            if (!check(checks[i], i, obj, result)) {
+                valid = false;
+                if (!result.isCollectAll()) {
+                    break;
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Validates all elements of the specified collection in parallel on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param objects the objects to be validated
+     * @return the per-element results, in iteration order
+     * @throws NullPointerException if an element is {@code null}
+     * @see #validateAll(Object[], Executor)
+     */
+
+    public static BulkValidationResult validateAll(Collection<?> objects) {
+        return validateAll(objects.toArray(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates all elements of the specified collection in parallel on the supplied executor.
+     *
+     * @param objects the objects to be validated
+     * @param executor the executor running the chunks of a large batch
+     * @return the per-element results, in iteration order
+     * @throws NullPointerException if an element is {@code null}
+     * @see #validateAll(Object[], Executor)
+     */
+
+    public static BulkValidationResult validateAll(Collection<?> objects, Executor executor) {
+        return validateAll(objects.toArray(), executor);
+    }
+
+    /**
+     * Validates all elements of the specified array in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param objects the objects to be validated
+     * @return the per-element results, in input order
+     * @throws NullPointerException if an element is {@code null}
+     * @see #validateAll(Object[], Executor)
+     */
+
+    public static BulkValidationResult validateAll(Object[] objects) {
+        return validateAll(objects, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates all elements of the specified array in parallel on the supplied executor.
+     * <p>
+     * Small batches are validated on the calling thread. Larger ones are split into
+     * contiguous chunks that run on the executor, for example a {@link ForkJoinPool} or
+     * {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}. Elements are
+     * checked without throwing, as with {@link #validate(Object, ValidationResult)}, and the
+     * first violation of each invalid element is kept.
+     * </p>
+     *
+     * @param objects the objects to be validated
+     * @param executor the executor running the chunks of a large batch
+     * @return the per-element results, in input order
+     * @throws NullPointerException if an element is {@code null}
+     */
+
+    public static BulkValidationResult validateAll(Object[] objects, Executor executor) {
+        return BulkValidator.validate(objects, executor);
+    }
+
+    /**
+     * Checks a single field, in the same order as {@link #validate(Object)}, and records
+     * its first violation in the result.
+     *
+     * @param check the parsed constraints of the field
+     * @param index the index of the field in the plan
+     * @param obj the object to be validated
+     * @param result the result receiving the violation
+     * @return {@code true} if the field satisfies its constraints
+     */
+
+    static boolean check(FieldCheck check, int index, Object obj, ValidationResult result) {
+        try {
+            if (check.numeric != null) {
+                // The checker covers every constraint of the field; FieldCheck rejects any other.
+                NumericCheck numeric = check.numeric;
+                int code = numeric.test(obj);
+                if (code == NumericCheck.VALID) {
+                    return true;
+                }
+                return result.add(index, numeric.constraint(code), numeric.bound(code), numeric.element(code));
+            }
+            if (check.intField) {
+                int intValue = check.accessor.getInt(obj);
+                if (check.hasLength || check.pattern != null) {
+                    return result.add(index, Constraint.STRING_TYPE, 0);
+                }
+                return checkRange(check, index, intValue, result);
+            }
+
+            Object value = check.accessor.get(obj);
+
+            if (check.notNull && value == null) {
+                return result.add(index, Constraint.NOT_NULL, 0);
+            }
+            if (check.hasLength) {
+                if (!(value instanceof String strValue)) {
+                    return result.add(index, Constraint.STRING_TYPE, 0);
+                }
+                if (strValue.length() < check.minLength) {
+                    return result.add(index, Constraint.STRING_LENGTH, check.minLength);
+                }
+                if (strValue.length() > check.maxLength) {
+                    return result.add(index, Constraint.STRING_LENGTH, check.maxLength);
+                }
+            }
+            if (check.pattern != null && value != null) {
+                if (!(value instanceof String strValue)) {
+                    return result.add(index, Constraint.STRING_TYPE, 0);
+                }
+                if (!check.pattern.matches(strValue)) {
+                    return result.add(index, Constraint.PATTERN, 0);
+                }
+            }
+            if (check.hasRange()) {
+                if (!(value instanceof Integer intValue)) {
+                    return result.add(index, Constraint.INTEGER_TYPE, 0);
+                }
+                return checkRange(check, index, intValue, result);
+            }
+            return true;
+        } catch (Exception e) {
+            throw new IllegalStateException(getErrorMessage(check.field, "cannot be read."), e);
+        }
+    }
+
+    /**
+     * Checks the specified integer value against the {@link MaxValue} and {@link MinValue}
+     * bounds of the field and records the first violation in the result.
+     *
+     * @param check the parsed constraints of the field
+     * @param index the index of the field in the plan
+     * @param value the integer value of the field
+     * @param result the result receiving the violation
+     * @return {@code true} if the value is within the defined range
+     */
+
+    private static boolean checkRange(FieldCheck check, int index, int value, ValidationResult result) {
+        if (check.hasMax && value > check.max) {
+            return result.add(index, Constraint.MAX_VALUE, check.max);
+        }
+        if (check.hasMin && value < check.min) {
+            return result.add(index, Constraint.MIN_VALUE, check.min);
+        }
+        return true;
+    }
+
+    /**
+     * Validates a field handled by a specialized {@link NumericCheck}: a {@code long},
+     * {@code double} or {@code BigDecimal} field, or a primitive array checked element by element.
+     *
+     * @param check the parsed constraints of the field
+     * @param obj the object to be validated
+     * @throws IllegalArgumentException if the value or an element is outside the defined range
+     * @throws IllegalStateException if the field type does not match its annotation
+     */
+
+    private static void validateNumeric(FieldCheck check, Object obj) throws Exception {
+        NumericCheck numeric = check.numeric;
+        int code = numeric.test(obj);
+        if (code == NumericCheck.VALID) {
+            return;
+        }
+        Constraint constraint = numeric.constraint(code);
+        String message = ValidationResult.format(check, constraint, numeric.bound(code), numeric.element(code));
+        if (constraint == Constraint.NUMBER_TYPE) {
+            throw new IllegalStateException(message);
+        }
+        throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Validates a primitive {@code int} field that was read without boxing.
+     * An {@code int} value can never be {@code null}, so only the type check of
+     * {@link StringLength} and {@link Pattern} and the numeric range are relevant.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the value of the field
+     * @throws IllegalStateException if the field is annotated with {@link StringLength} or {@link Pattern}
+     * @throws IllegalArgumentException if the value is outside the defined range
+     */
+
+    private static void validateInt(FieldCheck check, int value) {
+        if (check.hasLength || check.pattern != null) {
+            throw new IllegalStateException(check.message(Constraint.STRING_TYPE));
+        }
+        validateRange(check, value);
+    }
+
+    /**
+     * Validates the specified integer value against the {@link MaxValue} and
+     * {@link MinValue} bounds of the field, in that order.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the integer value of the field
+     * @throws IllegalArgumentException if the value is outside the defined range
+     */
+
+    private static void validateRange(FieldCheck check, int value) {
+        if (check.hasMax) {
+            validateMaxValue(check, value);
+        }
+        if (check.hasMin) {
+            validateMinValue(check, value);
+        }
+    }
+
+    /**
+     * Validates that the specified field value is not {@code null}.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the value of the field
+     * @throws IllegalArgumentException if the field value is {@code null}
+     */
+
+    private static void validateNotNull(FieldCheck check, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException(check.message(Constraint.NOT_NULL));
+        }
+    }
+
+    /**
+     * Validates that the length of the specified string value falls within the
+     * bounds defined by the {@link StringLength} annotation.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the string value of the field
+     * @throws IllegalArgumentException if the string length is outside the defined range
+     */
+
+    private static void validateStringLength(FieldCheck check, String value) {
+        if (value.length() < check.minLength || value.length() > check.maxLength) {
+            throw new IllegalArgumentException(check.message(Constraint.STRING_LENGTH));
+        }
+    }
+
+    /**
+     * Validates that the specified string value matches the expression of the {@link Pattern} annotation.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the string value of the field
+     * @throws IllegalArgumentException if the value does not match
+     */
+
+    private static void validatePattern(FieldCheck check, String value) {
+        if (!check.pattern.matches(value)) {
+            throw new IllegalArgumentException(check.message(Constraint.PATTERN));
+        }
+    }
+
+    /**
+     * Validates that the specified integer value does not exceed the maximum value
+     * defined by the {@link MaxValue} annotation.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the integer value of the field
+     * @throws IllegalArgumentException if the integer value exceeds the maximum value
+     */
+
+    private static void validateMaxValue(FieldCheck check, int value) {
+        if (value > check.max) {
+            throw new IllegalArgumentException(check.message(Constraint.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Validates that the specified integer value is not less than the minimum value
+     * defined by the {@link MinValue} annotation.
+     *
+     * @param check the parsed constraints of the field
+     * @param value the integer value of the field
+     * @throws IllegalArgumentException if the integer value is less than the minimum value
+     */
+
+    private static void validateMinValue(FieldCheck check, int value) {
+        if (value < check.min) {
+            throw new IllegalArgumentException(check.message(Constraint.MIN_VALUE));
+        }
+    }
+
+    /**
+     * Constructs an error message indicating that the specified field in the given class
+     * failed validation with the provided reason.
+     *
+     * @param field the field that failed validation
+     * @param reason the reason for the validation failure
+     * @return a detailed error message
+     */
+
+    static String getErrorMessage(Field field, String reason) {
+        return "Field '" + field.getName() + "' in class " + field.getDeclaringClass().getSimpleName() + " " + reason;
+    }
+}
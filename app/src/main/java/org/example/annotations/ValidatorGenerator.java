@@ -0,0 +1,431 @@
+package org.example.annotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code ValidatorGenerator} class emits a {@link CompiledValidator} per annotated class.
+ * <p>
+ * The generated class is defined with {@link MethodHandles.Lookup#defineHiddenClass} as a
+ * nestmate of the validated class, so it reads even private fields with plain
+ * {@code getfield} instructions. The bounds from {@link StringLength}, {@link MinValue} and
+ * {@link MaxValue} and the error messages are inlined as constants, which leaves the JIT
+ * with a small straight-line method it can inline into the caller.
+ * </p>
+ * <p>
+ * The bytecode is written by hand in class file version 49, which is verified by type
+ * inference and therefore needs no {@code StackMapTable}. Fields of types other than
+ * {@code String}, {@code int} and {@code Integer} are not supported; for such classes
+ * {@link #generate(ValidationPlan)} returns {@code null} and the caller keeps using the
+ * reflective plan.
+ * </p>
+ */
+final class ValidatorGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final int CLASS_VERSION = 49;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "java/lang/String";
+    private static final String INTEGER = "java/lang/Integer";
+    private static final String ILLEGAL_ARGUMENT = "java/lang/IllegalArgumentException";
+    private static final String ILLEGAL_STATE = "java/lang/IllegalStateException";
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ASTORE_1 = 0x4c;
+    private static final int ASTORE_2 = 0x4d;
+    private static final int ILOAD_3 = 0x1d;
+    private static final int ISTORE_3 = 0x3e;
+    private static final int LDC_W = 0x13;
+    private static final int DUP = 0x59;
+    private static final int IF_ICMPLT = 0xa1;
+    private static final int IF_ICMPGE = 0xa2;
+    private static final int IF_ICMPLE = 0xa4;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int GETFIELD = 0xb4;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int NEW = 0xbb;
+    private static final int ATHROW = 0xbf;
+    private static final int CHECKCAST = 0xc0;
+    private static final int IFNONNULL = 0xc7;
+
+    private ValidatorGenerator() {
+    }
+
+    /**
+     * Generates and instantiates a specialized validator for the class of the specified plan.
+     *
+     * @param plan the validation plan to compile
+     * @return the generated validator, or {@code null} if the plan cannot be compiled
+     */
+    static CompiledValidator generate(ValidationPlan plan) {
+        if (plan.checks.length == 0 || !isSupported(plan)) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup target = MethodHandles.privateLookupIn(plan.type, LOOKUP);
+            String name = plan.type.getName().replace('.', '/') + "$$Validator";
+            MethodHandles.Lookup hidden = target.defineHiddenClass(emit(plan, name), true,
+                    MethodHandles.Lookup.ClassOption.NESTMATE);
+            return (CompiledValidator) hidden.lookupClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static boolean isSupported(ValidationPlan plan) {
+        for (FieldCheck check : plan.checks) {
+            if (check.field.getDeclaringClass() != plan.type) {
+                // Inherited fields may not be accessible from a nestmate of the subclass.
+                return false;
+            }
+            if (check.numeric != null || check.pattern != null) {
+                return false;
+            }
+            Class<?> type = check.field.getType();
+            if (type != String.class && type != int.class && type != Integer.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Emits the class file of the validator. Checks are emitted in plan order with the same
+     * sequence as {@link Validator#validate(Object)}: null, length, maximum and minimum.
+     * A check that can only fail, such as {@link StringLength} on an {@code int}, is emitted
+     * as an unconditional throw and ends the method.
+     */
+    private static byte[] emit(ValidationPlan plan, String name) {
+        ConstantPool pool = new ConstantPool();
+        String owner = plan.type.getName().replace('.', '/');
+
+        Code init = new Code();
+        init.op(ALOAD_0);
+        init.op(INVOKESPECIAL);
+        init.u2(pool.method(OBJECT, "<init>", "()V"));
+        init.op(RETURN);
+
+        Code code = new Code();
+        code.op(ALOAD_1);
+        code.op(CHECKCAST);
+        code.u2(pool.type(owner));
+        code.op(ASTORE_1);
+
+        boolean terminated = false;
+        for (FieldCheck check : plan.checks) {
+            terminated = emitCheck(code, pool, owner, check);
+            if (terminated) {
+                break;
+            }
+        }
+        if (!terminated) {
+            code.op(RETURN);
+        }
+
+        int thisClass = pool.type(name);
+        int superClass = pool.type(OBJECT);
+        int iface = pool.type(CompiledValidator.class.getName().replace('.', '/'));
+        int initName = pool.utf8("<init>");
+        int initDesc = pool.utf8("()V");
+        int validateName = pool.utf8("validate");
+        int validateDesc = pool.utf8("(Ljava/lang/Object;)V");
+        int codeName = pool.utf8("Code");
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            pool.write(out);
+            out.writeShort(Modifier.PUBLIC | Modifier.FINAL | 0x0020);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(iface);
+            out.writeShort(0);
+            out.writeShort(2);
+            writeMethod(out, initName, initDesc, codeName, init, 1, 1);
+            writeMethod(out, validateName, validateDesc, codeName, code, 3, 4);
+            out.writeShort(0);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Emits the checks of a single field. The value is kept in local 2 for references
+     * and in local 3 for {@code int} values.
+     *
+     * @return {@code true} if the emitted code always throws
+     */
+    private static boolean emitCheck(Code code, ConstantPool pool, String owner, FieldCheck check) {
+        Field field = check.field;
+        Class<?> type = field.getType();
+        int fieldRef = pool.field(owner, field.getName(), type.descriptorString());
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+
+        if (!isStatic) {
+            code.op(ALOAD_1);
+        }
+        code.op(isStatic ? GETSTATIC : GETFIELD);
+        code.u2(fieldRef);
+
+        if (type == int.class) {
+            code.op(ISTORE_3);
+            if (check.hasLength) {
+                emitThrow(code, pool, ILLEGAL_STATE, check.message(Constraint.STRING_TYPE));
+                return true;
+            }
+            emitRange(code, pool, check);
+            return false;
+        }
+
+        code.op(ASTORE_2);
+        if (check.notNull) {
+            code.op(ALOAD_2);
+            int ok = code.jump(IFNONNULL);
+            emitThrow(code, pool, ILLEGAL_ARGUMENT, check.message(Constraint.NOT_NULL));
+            code.bind(ok);
+        }
+        if (check.hasLength) {
+            String notString = check.message(Constraint.STRING_TYPE);
+            if (type != String.class) {
+                emitThrow(code, pool, ILLEGAL_STATE, notString);
+                return true;
+            }
+            code.op(ALOAD_2);
+            int present = code.jump(IFNONNULL);
+            emitThrow(code, pool, ILLEGAL_STATE, notString);
+            code.bind(present);
+            code.op(ALOAD_2);
+            code.op(INVOKEVIRTUAL);
+            code.u2(pool.method(STRING, "length", "()I"));
+            code.op(ISTORE_3);
+            code.op(ILOAD_3);
+            code.ldc(pool.integer(check.minLength));
+            int tooShort = code.jump(IF_ICMPLT);
+            code.op(ILOAD_3);
+            code.ldc(pool.integer(check.maxLength));
+            int ok = code.jump(IF_ICMPLE);
+            code.bind(tooShort);
+            emitThrow(code, pool, ILLEGAL_ARGUMENT, check.message(Constraint.STRING_LENGTH));
+            code.bind(ok);
+        }
+        if (check.hasRange()) {
+            String notInteger = check.message(Constraint.INTEGER_TYPE);
+            if (type != Integer.class) {
+                emitThrow(code, pool, ILLEGAL_STATE, notInteger);
+                return true;
+            }
+            code.op(ALOAD_2);
+            int present = code.jump(IFNONNULL);
+            emitThrow(code, pool, ILLEGAL_STATE, notInteger);
+            code.bind(present);
+            code.op(ALOAD_2);
+            code.op(CHECKCAST);
+            code.u2(pool.type(INTEGER));
+            code.op(INVOKEVIRTUAL);
+            code.u2(pool.method(INTEGER, "intValue", "()I"));
+            code.op(ISTORE_3);
+            emitRange(code, pool, check);
+        }
+        return false;
+    }
+
+    private static void emitRange(Code code, ConstantPool pool, FieldCheck check) {
+        if (check.hasMax) {
+            code.op(ILOAD_3);
+            code.ldc(pool.integer(check.max));
+            int ok = code.jump(IF_ICMPLE);
+            emitThrow(code, pool, ILLEGAL_ARGUMENT, check.message(Constraint.MAX_VALUE));
+            code.bind(ok);
+        }
+        if (check.hasMin) {
+            code.op(ILOAD_3);
+            code.ldc(pool.integer(check.min));
+            int ok = code.jump(IF_ICMPGE);
+            emitThrow(code, pool, ILLEGAL_ARGUMENT, check.message(Constraint.MIN_VALUE));
+            code.bind(ok);
+        }
+    }
+
+    private static void emitThrow(Code code, ConstantPool pool, String exception, String message) {
+        code.op(NEW);
+        code.u2(pool.type(exception));
+        code.op(DUP);
+        code.ldc(pool.string(message));
+        code.op(INVOKESPECIAL);
+        code.u2(pool.method(exception, "<init>", "(Ljava/lang/String;)V"));
+        code.op(ATHROW);
+    }
+
+    private static void writeMethod(DataOutputStream out, int name, int descriptor, int codeName,
+                                    Code code, int maxStack, int maxLocals) throws IOException {
+        out.writeShort(Modifier.PUBLIC);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code.bytes, 0, code.length);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    /**
+     * A growable bytecode buffer with forward jumps patched on {@link #bind(int)}.
+     */
+    private static final class Code {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void op(int opcode) {
+            u1(opcode);
+        }
+
+        void u1(int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length * 2);
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void u2(int value) {
+            u1(value >>> 8);
+            u1(value);
+        }
+
+        void ldc(int index) {
+            op(LDC_W);
+            u2(index);
+        }
+
+        /**
+         * Emits a branch with a placeholder offset.
+         *
+         * @return the position of the branch instruction
+         */
+        int jump(int opcode) {
+            int position = length;
+            op(opcode);
+            u2(0);
+            return position;
+        }
+
+        /**
+         * Points the branch at the specified position to the current end of the code.
+         */
+        void bind(int position) {
+            int offset = length - position;
+            bytes[position + 1] = (byte) (offset >>> 8);
+            bytes[position + 2] = (byte) offset;
+        }
+    }
+
+    /**
+     * A deduplicating constant pool.
+     */
+    private static final class ConstantPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int integer(int value) {
+            return entry("I" + value, () -> {
+                out.writeByte(3);
+                out.writeInt(value);
+            });
+        }
+
+        int type(String internalName) {
+            int name = utf8(internalName);
+            return entry("C" + internalName, () -> {
+                out.writeByte(7);
+                out.writeShort(name);
+            });
+        }
+
+        int string(String value) {
+            int utf8 = utf8(value);
+            return entry("S" + value, () -> {
+                out.writeByte(8);
+                out.writeShort(utf8);
+            });
+        }
+
+        int field(String owner, String name, String descriptor) {
+            return member(9, owner, name, descriptor);
+        }
+
+        int method(String owner, String name, String descriptor) {
+            return member(10, owner, name, descriptor);
+        }
+
+        private int member(int tag, String owner, String name, String descriptor) {
+            int type = type(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + ":" + descriptor, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return entry("M" + tag + owner + "." + name + ":" + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(type);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        void write(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+
+        private int entry(String key, Writer writer) {
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            entries.put(key, count);
+            return count++;
+        }
+
+        private interface Writer {
+            void write() throws IOException;
+        }
+    }
+}
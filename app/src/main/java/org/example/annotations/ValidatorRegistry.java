@@ -0,0 +1,40 @@
+package org.example.annotations;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The {@code ValidatorRegistry} class indexes the validators generated at build time.
+ * <p>
+ * The registry is loaded once, on first use, through {@link ServiceLoader}. It is consulted
+ * by {@link Validator#validate(Object)} before any validation plan is built, so a class with
+ * a generated validator never pays the cost of a reflective scan.
+ * </p>
+ */
+final class ValidatorRegistry {
+
+    private static final Map<Class<?>, GeneratedValidator> VALIDATORS = load();
+
+    private ValidatorRegistry() {
+    }
+
+    /**
+     * Returns the generated validator for the specified class.
+     *
+     * @param type the class to be validated
+     * @return the generated validator, or {@code null} if none was generated
+     */
+    static GeneratedValidator find(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
+
+    private static Map<Class<?>, GeneratedValidator> load() {
+        Map<Class<?>, GeneratedValidator> validators = new HashMap<>();
+        for (GeneratedValidator validator : ServiceLoader.load(GeneratedValidator.class,
+                ValidatorRegistry.class.getClassLoader())) {
+            validators.put(validator.type(), validator);
+        }
+        return Map.copyOf(validators);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptivePlanTest {
+
+    static class Misconfigured {
+        @NotNull
+        private String name = "valid";
+
+        @StringLength(min = 1, max = 2)
+        private int count;
+    }
+
+    @Test
+    void countsTypeMismatchesAsFailures() {
+        AdaptivePlan plan = AdaptivePlan.of(Misconfigured.class);
+        Misconfigured obj = new Misconfigured();
+
+        for (int i = 0; i < 2 * AdaptivePlan.SAMPLE_RATE * AdaptivePlan.REORDER_INTERVAL; i++) {
+            assertThrows(IllegalStateException.class, () -> plan.validate(obj));
+        }
+
+        assertArrayEquals(new int[]{1, 0}, plan.order());
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkValidatorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void smallBatchIsValidatedInOrder() {
+        BulkValidationResult result = Validator.validateAll(List.of(
+                new Gamer("alice", 20), new Gamer(null, 20), new Gamer("bob", 5)));
+
+        assertFalse(result.isValid());
+        assertArrayEquals(new int[]{1, 2}, result.invalidIndexes());
+        assertEquals(Constraint.NOT_NULL, result.constraint(1));
+        assertEquals(Constraint.MIN_VALUE, result.constraint(2));
+        assertEquals(MessageCatalog.minValue(Gamer.class, "age", 12), result.message(2));
+    }
+
+    @Test
+    void largeBatchKeepsTheResultsOfEveryChunk() {
+        Object[] gamers = gamers(5 * BulkValidator.SEQUENTIAL_THRESHOLD);
+        gamers[0] = new Gamer(null, 20);
+        gamers[2000] = new Gamer("bob", 101);
+        gamers[gamers.length - 1] = new Gamer("carol", 1);
+
+        BulkValidationResult result = Validator.validateAll(gamers, pool);
+
+        assertEquals(gamers.length, result.size());
+        assertArrayEquals(new int[]{0, 2000, gamers.length - 1}, result.invalidIndexes());
+        assertEquals(Constraint.MAX_VALUE, result.constraint(2000));
+        assertTrue(result.isValid(1));
+    }
+
+    @Test
+    void failureOfTheInlineChunkWaitsForTheSubmittedChunks() {
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicInteger started = new AtomicInteger();
+        Executor delayed = task -> {
+            submitted.incrementAndGet();
+            pool.execute(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                started.incrementAndGet();
+                task.run();
+            });
+        };
+        Object[] gamers = gamers(5 * BulkValidator.SEQUENTIAL_THRESHOLD);
+        gamers[gamers.length - 1] = null;
+
+        NullPointerException e = assertThrows(NullPointerException.class, () -> Validator.validateAll(gamers, delayed));
+
+        assertEquals("Element at index " + (gamers.length - 1) + " is null.", e.getMessage());
+        assertTrue(submitted.get() > 0);
+        assertEquals(submitted.get(), started.get());
+    }
+
+    @Test
+    void failuresOfSubmittedChunksAreThrown() {
+        Object[] gamers = gamers(5 * BulkValidator.SEQUENTIAL_THRESHOLD);
+        gamers[0] = null;
+
+        NullPointerException e = assertThrows(NullPointerException.class, () -> Validator.validateAll(gamers, pool));
+
+        assertEquals("Element at index 0 is null.", e.getMessage());
+    }
+
+    private static Object[] gamers(int count) {
+        Object[] gamers = new Object[count];
+        for (int i = 0; i < count; i++) {
+            gamers[i] = new Gamer("player" + i, 18 + i % 80);
+        }
+        return gamers;
+    }
+}
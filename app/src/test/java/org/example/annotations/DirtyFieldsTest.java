@@ -0,0 +1,72 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirtyFieldsTest {
+
+    private static final int USERNAME = DirtyFields.index(Gamer.class, "username");
+    private static final int AGE = DirtyFields.index(Gamer.class, "age");
+
+    @Test
+    void newObjectsAreDirtyUntilValidated() throws Exception {
+        Gamer gamer = new Gamer("alice", 20);
+        assertTrue(gamer.dirtyFields().isDirty());
+
+        Validator.validate(gamer);
+
+        assertFalse(gamer.dirtyFields().isDirty());
+    }
+
+    @Test
+    void validationDoesNotCreateTheSetOfUnchangedObjects() throws Exception {
+        Gamer gamer = new Gamer("alice", 20);
+
+        Validator.validate(gamer);
+        assertTrue(Validator.validate(gamer, new ValidationResult()));
+
+        assertNull(gamer.currentDirtyFields());
+    }
+
+    @Test
+    void successfulResultValidationClearsAllFields() {
+        Gamer gamer = new Gamer("alice", 20);
+        gamer.setAge(30);
+
+        assertTrue(Validator.validate(gamer, new ValidationResult()));
+
+        assertFalse(gamer.dirtyFields().isDirty());
+    }
+
+    @Test
+    void failedValidationKeepsFieldsDirty() {
+        Gamer gamer = new Gamer("alice", 20);
+        gamer.setAge(5);
+
+        assertThrows(IllegalArgumentException.class, () -> Validator.validate(gamer));
+        assertFalse(Validator.validate(gamer, new ValidationResult()));
+
+        assertTrue(gamer.dirtyFields().isDirty(AGE));
+    }
+
+    @Test
+    void revalidateChecksOnlyChangedFields() throws Exception {
+        Gamer gamer = new Gamer("alice", 20);
+        gamer.setUsername("bob");
+        Validator.validate(gamer);
+
+        gamer.setAge(5);
+        assertFalse(gamer.dirtyFields().isDirty(USERNAME));
+        assertThrows(IllegalArgumentException.class, () -> Validator.revalidate(gamer));
+        assertTrue(gamer.dirtyFields().isDirty(AGE));
+
+        gamer.setAge(25);
+        Validator.revalidate(gamer);
+        assertFalse(gamer.dirtyFields().isDirty());
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldAccessorTest {
+
+    static class Account {
+        private int balance = 42;
+        private String owner = "alice";
+    }
+
+    @Test
+    void readsPrivateFieldsOfOpenPackages() throws Exception {
+        Account account = new Account();
+
+        assertEquals(42, FieldAccessor.of(Account.class.getDeclaredField("balance")).getInt(account));
+        assertEquals("alice", FieldAccessor.of(Account.class.getDeclaredField("owner")).get(account));
+    }
+
+    @Test
+    void fallsBackToReflectionForPublicFieldsOfClosedPackages() throws Exception {
+        // java.awt is exported by java.desktop but not opened to the validator.
+        FieldAccessor accessor = FieldAccessor.of(Point.class.getField("x"));
+
+        assertEquals(3, accessor.getInt(new Point(3, 4)));
+        assertEquals(3, accessor.get(new Point(3, 4)));
+    }
+
+    @Test
+    void rejectsPrivateFieldsOfClosedPackages() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> FieldAccessor.of(String.class.getDeclaredField("value")));
+
+        assertTrue(e.getMessage().contains("--add-opens java.base/java.lang=ALL-UNNAMED"), e.getMessage());
+    }
+}
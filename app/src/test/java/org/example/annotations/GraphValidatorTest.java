@@ -0,0 +1,142 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphValidatorTest {
+
+    interface Adult {}
+
+    static class Member {
+        @StringLength(min = 2, max = 10)
+        private String name;
+
+        @MinValue(value = 18, groups = Adult.class)
+        private int age;
+
+        @Valid
+        private Member partner;
+
+        Member(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    static class Team {
+        @NotNull
+        private String name = "team";
+
+        @Valid
+        private Member captain;
+
+        @Valid
+        private List<Member> members = List.of();
+
+        @Valid
+        private Map<String, Member> roles = Map.of();
+
+        @Valid
+        private Member[] bench = {};
+    }
+
+    static class Roster extends ArrayList<Member> {
+        @NotNull
+        private String title;
+    }
+
+    static class Club {
+        @Valid
+        private Roster roster = new Roster();
+    }
+
+    @Test
+    void cascadesIntoFieldsAndContainers() {
+        Team team = new Team();
+        team.captain = new Member("alice", 30);
+        team.members = List.of(new Member("bob", 30), new Member("x", 30));
+        assertViolation(team, MessageCatalog.length(Member.class, "name", 2, 10));
+
+        team.members = List.of();
+        team.roles = Map.of("coach", new Member("y", 30));
+        assertViolation(team, MessageCatalog.length(Member.class, "name", 2, 10));
+
+        team.roles = Map.of();
+        team.bench = new Member[]{null, new Member("z", 30)};
+        assertViolation(team, MessageCatalog.length(Member.class, "name", 2, 10));
+
+        team.bench = new Member[]{null, new Member("carol", 30)};
+        assertDoesNotThrow(() -> Validator.validate(team));
+    }
+
+    @Test
+    void cyclesTerminateAndEachObjectIsReportedOnce() {
+        Member alice = new Member("alice", 30);
+        Member bob = new Member("b", 30);
+        alice.partner = bob;
+        bob.partner = alice;
+        Team team = new Team();
+        team.captain = alice;
+        team.members = List.of(alice, bob);
+        team.bench = new Member[]{bob};
+
+        ValidationResult result = new ValidationResult(true);
+        assertFalse(Validator.validate(team, result));
+        assertEquals(1, result.violationCount());
+        assertEquals(Member.class, result.validatedClass(0));
+        assertEquals(Constraint.STRING_LENGTH, result.constraint(0));
+
+        bob.name = "bob";
+        assertDoesNotThrow(() -> Validator.validate(team));
+        assertTrue(Validator.validate(team, new ValidationResult(true)));
+    }
+
+    @Test
+    void reachableObjectsAreValidatedWithTheGroupOfTheRoot() {
+        Team team = new Team();
+        team.name = null;
+        team.members = List.of(new Member("bob", 10));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Validator.validate(team, Adult.class));
+        assertEquals(MessageCatalog.minValue(Member.class, "age", 18), e.getMessage());
+
+        team.name = "team";
+        assertDoesNotThrow(() -> Validator.validate(team, Default.class));
+    }
+
+    @Test
+    void containerWithConstraintsIsValidatedBeforeItsElements() {
+        Club club = new Club();
+        club.roster.add(new Member("bob", 30));
+        assertViolation(club, MessageCatalog.notNull(Roster.class, "title"));
+
+        club.roster.add(new Member("x", 30));
+        ValidationResult result = new ValidationResult(true);
+        assertFalse(Validator.validate(club, result));
+        assertEquals(2, result.violationCount());
+        assertEquals(Roster.class, result.validatedClass(0));
+        assertEquals(Member.class, result.validatedClass(1));
+
+        club.roster.title = "first team";
+        club.roster.remove(1);
+        assertDoesNotThrow(() -> Validator.validate(club));
+    }
+
+    private static void assertViolation(Object root, String message) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Validator.validate(root));
+        assertEquals(message, e.getMessage());
+
+        ValidationResult result = new ValidationResult();
+        assertFalse(Validator.validate(root, result));
+        assertEquals(message, result.message(0));
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramBucketsTest {
+
+    @Test
+    void bucketsCoverEveryValueWithinTheRelativeError() {
+        for (int bits : new int[]{3, 7}) {
+            HistogramBuckets buckets = new HistogramBuckets(bits);
+            int previous = -1;
+            for (long value = 0; value < 1 << 20; value += 1 + value / 64) {
+                int index = buckets.index(value);
+                long upper = buckets.upperBound(index);
+                assertTrue(index >= previous);
+                assertTrue(value <= upper);
+                assertTrue(upper - value < Math.max(1, value >> bits));
+                previous = index;
+            }
+            assertTrue(buckets.index(Long.MAX_VALUE) < buckets.count());
+            assertEquals(Long.MAX_VALUE, buckets.upperBound(buckets.index(Long.MAX_VALUE)));
+        }
+    }
+
+    @Test
+    void smallValuesHaveTheirOwnBuckets() {
+        HistogramBuckets buckets = new HistogramBuckets(3);
+
+        for (int value = 0; value < 16; value++) {
+            assertEquals(value, buckets.upperBound(buckets.index(value)));
+        }
+        assertEquals(buckets.index(16), buckets.index(17));
+    }
+
+    @Test
+    void percentileIsTheUpperBoundOfItsBucketCappedByTheMax() {
+        HistogramBuckets buckets = new HistogramBuckets(3);
+        long[] counts = new long[buckets.count()];
+        counts[buckets.index(5)] = 90;
+        counts[buckets.index(1_000)] = 10;
+
+        assertEquals(0, buckets.percentile(new long[buckets.count()], 0, 0, 50));
+        assertEquals(5, buckets.percentile(counts, 100, 1_000, 90));
+        assertEquals(1_023, buckets.percentile(counts, 100, 2_000, 99));
+        assertEquals(1_000, buckets.percentile(counts, 100, 1_000, 100));
+    }
+
+    @Test
+    void rejectsUnsupportedPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HistogramBuckets(0));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramBuckets(17));
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessageCatalogTest {
+
+    static class Label {
+        @StringLength(min = 1, max = 4)
+        private Object text = 42;
+
+        @MinValue(0)
+        private Integer count;
+    }
+
+    @Test
+    void factoriesWordMessagesLikeTheValidator() {
+        assertEquals("Field 'username' in class Gamer cannot be null.", MessageCatalog.notNull(Gamer.class, "username"));
+        assertEquals("Field 'description' in class Item must have length between 3 and 100.",
+                MessageCatalog.length(Item.class, "description", 3, 100));
+        assertEquals("Field 'age' in class Gamer must be greater than or equal to 12.", MessageCatalog.minValue(Gamer.class, "age", 12));
+        assertEquals("Field 'age' in class Gamer must be less than or equal to 100.", MessageCatalog.maxValue(Gamer.class, "age", 100));
+        assertEquals("Field 'age' in class Gamer must be between 12 and 100.", MessageCatalog.range(Gamer.class, "age", 12, 100));
+        assertEquals("Field 'age' in class Gamer cannot be negative.", MessageCatalog.message(Gamer.class, "age", "cannot be negative."));
+    }
+
+    @Test
+    void generatedValidatorsThrowTheCatalogMessages() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Validator.validate(new Gamer("alice", 5)));
+
+        assertEquals(MessageCatalog.minValue(Gamer.class, "age", 12), e.getMessage());
+        assertEquals(MessageCatalog.message(Gamer.class, "age", Constraint.MIN_VALUE), e.getMessage());
+    }
+
+    @Test
+    void planMessagesArePrecomputed() {
+        assertSame(MessageCatalog.message(Item.class, "title", Constraint.NOT_NULL),
+                MessageCatalog.message(Item.class, "title", Constraint.NOT_NULL));
+    }
+
+    @Test
+    void typeErrorsNameTheConstraint() {
+        IllegalStateException text = assertThrows(IllegalStateException.class, () -> Validator.validate(new Label()));
+        assertEquals(MessageCatalog.stringType(Label.class, "text", "StringLength"), text.getMessage());
+
+        Label label = new Label();
+        label.text = "ab";
+        IllegalStateException count = assertThrows(IllegalStateException.class, () -> Validator.validate(label));
+        assertEquals(MessageCatalog.integerType(Label.class, "count"), count.getMessage());
+    }
+
+    @Test
+    void rejectsConstraintsTheFieldDoesNotDeclare() {
+        assertThrows(IllegalArgumentException.class, () -> MessageCatalog.message(Gamer.class, "username", Constraint.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> MessageCatalog.message(Gamer.class, "score", Constraint.NOT_NULL));
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumericCheckTest {
+
+    static class Account {
+        @LongRange(min = 0, max = 1_000)
+        private long balance;
+
+        @NotNull
+        @LongRange(max = 10)
+        private Long limit = 5L;
+
+        @DoubleRange(min = 0, max = 1)
+        private double ratio;
+
+        @DecimalRange(min = "0.00")
+        private BigDecimal price = BigDecimal.ONE;
+
+        @MinValue(1)
+        @MaxValue(6)
+        private int[] dice = {1, 6};
+
+        @LongRange(min = 0)
+        private String text;
+    }
+
+    static class LengthAndRange {
+        @StringLength(min = 1, max = 2)
+        @LongRange(min = 0)
+        private long value;
+    }
+
+    static class TwoRanges {
+        @LongRange(min = 0)
+        @DoubleRange(min = 0)
+        private long value;
+    }
+
+    static class TypedAndIntRange {
+        @DecimalRange(min = "0")
+        @MinValue(0)
+        private BigDecimal value;
+    }
+
+    static class PatternOnArray {
+        @MaxValue(9)
+        @Pattern(regexp = "[0-9]+")
+        private int[] digits;
+    }
+
+    @Test
+    void acceptsValuesWithinTheirRanges() throws Exception {
+        ValidationResult result = new ValidationResult();
+
+        assertTrue(Validator.validate(new Account(), result));
+        Validator.validate(new Account());
+    }
+
+    @Test
+    void reportsOutOfRangeScalars() {
+        Account account = new Account();
+        account.balance = 1_001;
+        assertViolation(account, "balance", Constraint.LONG_RANGE,
+                MessageCatalog.range(Account.class, "balance", 0, 1_000));
+
+        account = new Account();
+        account.ratio = Double.NaN;
+        assertViolation(account, "ratio", Constraint.DOUBLE_RANGE,
+                MessageCatalog.message(Account.class, "ratio", "must be between 0.0 and 1.0."));
+
+        account = new Account();
+        account.price = new BigDecimal("-0.01");
+        assertViolation(account, "price", Constraint.DECIMAL_RANGE,
+                MessageCatalog.message(Account.class, "price", "must be greater than or equal to 0.00."));
+    }
+
+    @Test
+    void reportsNullOnlyWhenNotNullIsPresent() {
+        Account account = new Account();
+        account.limit = null;
+        assertViolation(account, "limit", Constraint.NOT_NULL, MessageCatalog.notNull(Account.class, "limit"));
+
+        account = new Account();
+        account.price = null;
+        assertTrue(Validator.validate(account, new ValidationResult()));
+    }
+
+    @Test
+    void reportsTheFirstOffendingArrayElement() {
+        Account account = new Account();
+        account.dice = new int[]{3, 4, 7, 0};
+        ValidationResult result = new ValidationResult();
+
+        assertFalse(Validator.validate(account, result));
+        assertEquals(Constraint.MAX_VALUE, result.constraint(0));
+        assertEquals(2, result.elementIndex(0));
+        assertEquals(6, result.bound(0));
+        assertEquals("Field 'dice' in class Account has element 2 that must be less than or equal to 6.",
+                result.message(0));
+    }
+
+    @Test
+    void reportsTheCheckedArrayEvenIfTheFieldChanges() throws Exception {
+        int[][] reads = {{3, 7}, {0, 0}};
+        FieldAccessor changing = new FieldAccessor() {
+            private int next;
+
+            @Override
+            Object get(Object obj) {
+                return reads[next++];
+            }
+
+            @Override
+            int getInt(Object obj) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            long getLong(Object obj) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            double getDouble(Object obj) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        NumericCheck check = NumericCheck.of(Account.class.getDeclaredField("dice"), changing, false, null);
+
+        int code = check.test(new Account());
+        assertEquals(Constraint.MAX_VALUE, check.constraint(code));
+        assertEquals(6, check.bound(code));
+        assertEquals(1, check.element(code));
+    }
+
+    @Test
+    void reportsTypeMismatchesAsIllegalState() {
+        Account account = new Account();
+        account.text = "12";
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> Validator.validate(account));
+        assertEquals("Field 'text' in class Account is not of type long for @LongRange.", e.getMessage());
+    }
+
+    @Test
+    void rejectsConstraintsTheCheckerCannotCover() {
+        assertConflict(LengthAndRange.class, "Field 'value' in class LengthAndRange cannot combine @LongRange with @StringLength.");
+        assertConflict(TwoRanges.class, "Field 'value' in class TwoRanges cannot combine @LongRange with @DoubleRange.");
+        assertConflict(TypedAndIntRange.class, "Field 'value' in class TypedAndIntRange cannot combine @DecimalRange with @MinValue.");
+        assertConflict(PatternOnArray.class, "Field 'digits' in class PatternOnArray cannot combine @MaxValue with @Pattern.");
+    }
+
+    private static void assertViolation(Object obj, String fieldName, Constraint constraint, String message) {
+        ValidationResult result = new ValidationResult();
+        assertFalse(Validator.validate(obj, result));
+        assertEquals(fieldName, result.fieldName(0));
+        assertEquals(constraint, result.constraint(0));
+        assertEquals(message, result.message(0));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Validator.validate(obj));
+        assertEquals(message, e.getMessage());
+    }
+
+    private static void assertConflict(Class<?> type, String message) {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ValidationPlan.of(type));
+        assertEquals(message, e.getMessage());
+    }
+}
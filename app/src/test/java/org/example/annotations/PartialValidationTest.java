@@ -0,0 +1,128 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartialValidationTest {
+
+    interface Signup {}
+
+    interface Checkout extends Signup {}
+
+    static class Customer {
+        @NotNull(groups = Signup.class)
+        private String email;
+
+        @StringLength(min = 3, max = 20)
+        private String name;
+
+        @MinValue(value = 18, groups = Checkout.class)
+        private int age;
+
+        @NotNull
+        private String city = "Kyiv";
+
+        Customer(String email, String name, int age) {
+            this.email = email;
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    static class Wide {
+        @NotNull
+        private String a = "";
+        @NotNull
+        private String b = "";
+        @NotNull
+        private String c = "";
+        @NotNull
+        private String d = "";
+        @NotNull
+        private String e = "";
+        @NotNull
+        private String f = "";
+    }
+
+    @Test
+    void groupChecksOnlyItsConstraints() {
+        Customer customer = new Customer("a@b.c", "x", 10);
+
+        assertDoesNotThrow(() -> Validator.validate(customer, Signup.class));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Validator.validate(customer, Checkout.class));
+        assertEquals(MessageCatalog.minValue(Customer.class, "age", 18), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> Validator.validate(customer, Default.class));
+        assertEquals(MessageCatalog.length(Customer.class, "name", 3, 20), e.getMessage());
+    }
+
+    @Test
+    void groupResultReportsTheGroupViolations() {
+        ValidationResult result = new ValidationResult(true);
+
+        assertFalse(Validator.validate(new Customer(null, "x", 10), Checkout.class, result));
+
+        assertEquals(2, result.violationCount());
+        assertEquals(Constraint.NOT_NULL, result.constraint(0));
+        assertEquals(Constraint.MIN_VALUE, result.constraint(1));
+    }
+
+    @Test
+    void validateFieldsChecksOnlyTheNamedFields() {
+        Customer customer = new Customer(null, "x", 30);
+
+        assertDoesNotThrow(() -> Validator.validateFields(customer, "age", "city"));
+        assertThrows(IllegalArgumentException.class, () -> Validator.validateFields(customer, "name"));
+        ValidationResult result = new ValidationResult(true);
+        assertFalse(Validator.validateFields(customer, result, "email", "age"));
+        assertEquals(1, result.violationCount());
+        assertEquals("email", result.fieldName(0));
+    }
+
+    @Test
+    void validateFieldsRejectsUnknownFields() {
+        Customer customer = new Customer("a@b.c", "alice", 30);
+
+        assertThrows(IllegalArgumentException.class, () -> Validator.validateFields(customer, "phone"));
+    }
+
+    @Test
+    void fieldPlansReuseTheFullPlanWithoutCompiling() {
+        ValidationPlan full = ValidationPlan.of(Customer.class);
+        ValidationPlan plan = ValidationPlan.of(Customer.class, Set.of("name", "age"));
+
+        assertTrue(plan.partial);
+        assertNull(plan.compiled);
+        assertSame(full.checks[1], plan.checks[0]);
+        assertSame(full.checks[2], plan.checks[1]);
+        assertSame(plan, ValidationPlan.of(Customer.class, Set.of("age", "name")));
+    }
+
+    @Test
+    void onlyRecentFieldPlansAreKept() {
+        ValidationPlan first = ValidationPlan.of(Wide.class, Set.of("a"));
+        String[] names = {"a", "b", "c", "d", "e", "f"};
+        for (int mask = 1; mask < 1 << names.length; mask++) {
+            Set<String> set = new HashSet<>();
+            for (int i = 0; i < names.length; i++) {
+                if ((mask & 1 << i) != 0) {
+                    set.add(names[i]);
+                }
+            }
+            ValidationPlan.of(Wide.class, set);
+        }
+
+        assertNotSame(first, ValidationPlan.of(Wide.class, Set.of("a")));
+    }
+}
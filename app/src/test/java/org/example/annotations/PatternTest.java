@@ -0,0 +1,94 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PatternTest {
+
+    static class Plane {
+        @Pattern(regexp = "[A-Z]{2}[0-9]{3,4}")
+        private String model;
+
+        @Pattern(regexp = "pilot-(one|two)", flags = java.util.regex.Pattern.CASE_INSENSITIVE)
+        private String crew;
+
+        Plane(String model, String crew) {
+            this.model = model;
+            this.crew = crew;
+        }
+    }
+
+    static class Untyped {
+        @Pattern(regexp = "[0-9]+")
+        private Object code = 42;
+    }
+
+    static class Broken {
+        @Pattern(regexp = "[0-9")
+        private String code;
+    }
+
+    @Test
+    void validatesTheWholeValue() {
+        assertDoesNotThrow(() -> Validator.validate(new Plane("AB123", "Pilot-Two")));
+        assertDoesNotThrow(() -> Validator.validate(new Plane(null, null)));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Validator.validate(new Plane("AB12345", "pilot-one")));
+        assertEquals(MessageCatalog.message(Plane.class, "model", "must match pattern [A-Z]{2}[0-9]{3,4}."), e.getMessage());
+
+        ValidationResult result = new ValidationResult(true);
+        assertFalse(Validator.validate(new Plane("ab123", "pilot-three"), result));
+        assertEquals(2, result.violationCount());
+        assertEquals(Constraint.PATTERN, result.constraint(0));
+        assertEquals("crew", result.fieldName(1));
+    }
+
+    @Test
+    void reportsNonStringValuesAndInvalidExpressions() {
+        IllegalStateException type = assertThrows(IllegalStateException.class, () -> Validator.validate(new Untyped()));
+        assertEquals(MessageCatalog.stringType(Untyped.class, "code", "Pattern"), type.getMessage());
+
+        IllegalStateException syntax = assertThrows(IllegalStateException.class, () -> ValidationPlan.of(Broken.class));
+        assertEquals("Field 'code' in class Broken has an invalid @Pattern expression.", syntax.getMessage());
+    }
+
+    @Test
+    void matchersAreSharedByExpressionAndFlags() {
+        StringMatcher matcher = StringMatcher.of("[a-z]+-[0-9]", 0);
+
+        assertSame(matcher, StringMatcher.of("[a-z]+-[0-9]", 0));
+        assertNotSame(matcher, StringMatcher.of("[a-z]+-[0-9]", java.util.regex.Pattern.CASE_INSENSITIVE));
+    }
+
+    @Test
+    void simpleCharacterClassesSkipTheRegexEngine() {
+        assertInstanceOf(StringMatcher.CharClassMatcher.class, StringMatcher.of("[A-Z]{2}[0-9]{3,4}", 0));
+        assertInstanceOf(StringMatcher.CharClassMatcher.class, StringMatcher.of("\\w+", 0));
+        assertFalse(StringMatcher.of("[a-z]+[0-9]", 0) instanceof StringMatcher.CharClassMatcher);
+        assertFalse(StringMatcher.of("a|b", 0) instanceof StringMatcher.CharClassMatcher);
+        assertFalse(StringMatcher.of("[^a]{2}", 0) instanceof StringMatcher.CharClassMatcher);
+    }
+
+    @Test
+    void fastPathAgreesWithTheRegexEngine() {
+        List<String> expressions = List.of("[A-Z]{2}[0-9]{3,4}", "\\w+", "^[a-c_]x*$", "\\d{2}-\\d+", "[A-Za-z0-9._]{3,16}");
+        List<String> values = List.of("", "x", "AB123", "AB1234", "AB12345", "ab123", "_", "cxx", "12-3", "12-", "user.name", "hello world", "ïx");
+        for (String expression : expressions) {
+            StringMatcher matcher = StringMatcher.of(expression, 0);
+            assertInstanceOf(StringMatcher.CharClassMatcher.class, matcher, expression);
+            for (String value : values) {
+                assertEquals(java.util.regex.Pattern.matches(expression, value), matcher.matches(value), expression + " " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatingProcessorTest {
+
+    @Test
+    void forwardsValidItemsAndReplacesRejectedOnes() {
+        List<String> rejected = new ArrayList<>();
+        ValidatingProcessor<Gamer> processor = new ValidatingProcessor<>(
+                (gamer, result) -> rejected.add(result.message(0)));
+        Gamer alice = new Gamer("alice", 20);
+        Gamer carol = new Gamer("carol", 30);
+        ListPublisher<Gamer> publisher = new ListPublisher<>(List.of(
+                alice, new Gamer(null, 20), new Gamer("bob", 5), carol));
+        RecordingSubscriber<Gamer> subscriber = new RecordingSubscriber<>(s -> s.request(2));
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertEquals(List.of(alice, carol), subscriber.items);
+        assertEquals(List.of(
+                MessageCatalog.notNull(Gamer.class, "username"),
+                MessageCatalog.minValue(Gamer.class, "age", 12)), rejected);
+        assertEquals(4, publisher.requested);
+        assertEquals(1, subscriber.completions);
+    }
+
+    @Test
+    void holdsBackTerminalSignalUntilOnSubscribeReturns() {
+        ValidatingProcessor<Gamer> processor = new ValidatingProcessor<>((gamer, result) -> {
+        });
+        ListPublisher<Gamer> publisher = new ListPublisher<>(List.of(new Gamer("alice", 20)));
+        publisher.subscribe(processor);
+        RecordingSubscriber<Gamer> subscriber = new RecordingSubscriber<>(s -> {
+            s.request(5);
+            processor.onComplete();
+        });
+
+        processor.subscribe(subscriber);
+
+        assertFalse(subscriber.terminatedInsideOnSubscribe);
+        assertEquals(1, subscriber.items.size());
+        assertEquals(1, subscriber.completions);
+    }
+
+    @Test
+    void deliversExactlyOneTerminalSignal() {
+        ValidatingProcessor<Gamer> processor = new ValidatingProcessor<>((gamer, result) -> {
+        });
+        RecordingSubscriber<Gamer> subscriber = new RecordingSubscriber<>(s -> {
+        });
+        processor.subscribe(subscriber);
+
+        processor.onComplete();
+        processor.onError(new IllegalStateException("late"));
+        processor.onComplete();
+
+        assertEquals(1, subscriber.completions);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void failsTheStreamWhenTheSinkThrows() {
+        IllegalStateException failure = new IllegalStateException("sink failed");
+        ValidatingProcessor<Gamer> processor = new ValidatingProcessor<>((gamer, result) -> {
+            throw failure;
+        });
+        ListPublisher<Gamer> publisher = new ListPublisher<>(List.of(new Gamer(null, 20), new Gamer("alice", 20)));
+        RecordingSubscriber<Gamer> subscriber = new RecordingSubscriber<>(s -> s.request(Long.MAX_VALUE));
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertTrue(publisher.cancelled);
+        assertSame(failure, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+        assertEquals(0, subscriber.completions);
+    }
+
+    @Test
+    void rejectsSecondSubscriber() {
+        ValidatingProcessor<Gamer> processor = new ValidatingProcessor<>((gamer, result) -> {
+        });
+        processor.subscribe(new RecordingSubscriber<>(s -> {
+        }));
+        RecordingSubscriber<Gamer> second = new RecordingSubscriber<>(s -> {
+        });
+
+        processor.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    /**
+     * Emits a fixed list synchronously on request, trampolining requests made from onNext.
+     */
+    private static final class ListPublisher<T> implements Flow.Publisher<T> {
+
+        private final List<T> items;
+        private int next;
+        private long demand;
+        private long requested;
+        private boolean emitting;
+        private boolean cancelled;
+
+        ListPublisher(List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < items.size() && !cancelled) {
+                        demand--;
+                        subscriber.onNext(items.get(next++));
+                    }
+                    emitting = false;
+                    if (next == items.size() && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final Consumer<Flow.Subscription> onSubscribe;
+        private final List<T> items = new ArrayList<>();
+        private boolean subscribing;
+        private boolean terminatedInsideOnSubscribe;
+        private int completions;
+        private Throwable error;
+
+        RecordingSubscriber(Consumer<Flow.Subscription> onSubscribe) {
+            this.onSubscribe = onSubscribe;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscribing = true;
+            onSubscribe.accept(subscription);
+            subscribing = false;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            terminatedInsideOnSubscribe |= subscribing;
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            terminatedInsideOnSubscribe |= subscribing;
+            completions++;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidatingReaderTest {
+
+    static class Player {
+        @NotNull
+        @StringLength(min = 2, max = 10)
+        private final String name;
+
+        @MinValue(13)
+        @MaxValue(99)
+        private final int age;
+
+        Player(String name, int age) {
+            if (name != null && name.equals("admin")) {
+                throw new IllegalArgumentException("Reserved name.");
+            }
+            this.name = name;
+            this.age = age;
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + age;
+        }
+    }
+
+    private final List<String> accepted = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+
+    @Test
+    void acceptsValidRowsAndReportsViolations() throws IOException {
+        long count = read(ValidatingReader.csv(Player.class, "name", "age").header(true),
+                "name,age\nbob,30\nx,30\nal,7\n,20\n\"a,b\",40\n");
+
+        assertEquals(3, count);
+        assertEquals(List.of("bob:30", "a,b:40"), accepted);
+        assertEquals(List.of("3 name STRING_LENGTH", "4 age MIN_VALUE", "5 name NOT_NULL"), rejected);
+    }
+
+    @Test
+    void quoteInsideUnquotedCellIsMalformed() throws IOException {
+        long count = read(ValidatingReader.csv(Player.class, "name", "age"), "b\"ob,30\nal,40\n");
+
+        assertEquals(1, count);
+        assertEquals(List.of("al:40"), accepted);
+        assertEquals(List.of("1 null null"), rejected);
+    }
+
+    @Test
+    void quotedCellsSpanLinesAndEscapeQuotes() throws IOException {
+        long count = read(ValidatingReader.csv(Player.class, "name", "age"),
+                "\"a\"\"\nb\",30\n\"c,d\",40\nee,50\n");
+
+        assertEquals(0, count);
+        assertEquals(List.of("a\"\nb:30", "c,d:40", "ee:50"), accepted);
+    }
+
+    @Test
+    void stripsCarriageReturnOfLastRow() throws IOException {
+        long count = read(ValidatingReader.csv(Player.class, "name", "age"), "al,40\r\nbob,30\r");
+
+        assertEquals(0, count);
+        assertEquals(List.of("al:40", "bob:30"), accepted);
+    }
+
+    @Test
+    void rowsLongerThanTheLimitAreSkipped() throws IOException {
+        long count = read(ValidatingReader.csv(Player.class, "name", "age").bufferSize(16).maxRowSize(32),
+                "\"unterminated,30\n" + "x".repeat(100) + "\nal,40\n");
+
+        assertEquals(1, count);
+        assertEquals(List.of("al:40"), accepted);
+        assertEquals(List.of("1 null null"), rejected);
+    }
+
+    @Test
+    void readsJsonLines() throws IOException {
+        long count = read(ValidatingReader.jsonLines(Player.class),
+                "{\"name\":\"bob\",\"age\":30,\"extra\":true}\n{\"age\":30}\n{\"name\":\"al\",\"age\":100}\n");
+
+        assertEquals(2, count);
+        assertEquals(List.of("bob:30"), accepted);
+        assertEquals(List.of("2 name NOT_NULL", "3 age MAX_VALUE"), rejected);
+    }
+
+    @Test
+    void factoryExceptionsEndTheRead() {
+        ValidatingReader<Player> reader = ValidatingReader.csv(Player.class, "name", "age");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> read(reader, "bob,30\nadmin,40\nal,50\n"));
+        assertEquals("Reserved name.", e.getMessage());
+        assertEquals(List.of("bob:30"), accepted);
+    }
+
+    private long read(ValidatingReader<Player> reader, String input) throws IOException {
+        try (ReadableByteChannel channel = Channels.newChannel(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))) {
+            return reader.read(channel, player -> accepted.add(player.toString()),
+                    (line, field, constraint) -> rejected.add(line + " " + field + " " + constraint));
+        }
+    }
+}
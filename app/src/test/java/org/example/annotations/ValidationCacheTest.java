@@ -0,0 +1,150 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationCacheTest {
+
+    static class Account {
+        @NotNull
+        @StringLength(min = 3, max = 8)
+        private String name;
+
+        Account(String name) {
+            this.name = name;
+        }
+    }
+
+    @Immutable
+    static final class Code {
+        @NotNull
+        private final String value;
+
+        @MinValue(0)
+        private final int version;
+
+        Code(String value, int version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    @Immutable
+    static final class Order {
+        @NotNull
+        private final String number;
+
+        @Valid
+        private final Account owner;
+
+        Order(String number, Account owner) {
+            this.number = number;
+            this.owner = owner;
+        }
+    }
+
+    @Test
+    void remembersValidObjectsByIdentity() throws Exception {
+        ValidationCache cache = new ValidationCache(100);
+        Account account = new Account("alice");
+
+        cache.validate(account);
+        cache.validate(account);
+        cache.validate(new Account("alice"));
+
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void doesNotRememberFailures() {
+        ValidationCache cache = new ValidationCache(100);
+        Account account = new Account("al");
+        ValidationResult result = new ValidationResult();
+
+        assertThrows(IllegalArgumentException.class, () -> cache.validate(account));
+        assertFalse(cache.validate(account, result));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateForgetsAnObject() throws Exception {
+        ValidationCache cache = new ValidationCache(100);
+        Account account = new Account("alice");
+        cache.validate(account);
+
+        cache.invalidate(account);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void changedTrackedObjectsAreValidatedAgain() throws Exception {
+        ValidationCache cache = new ValidationCache(100);
+        Gamer gamer = new Gamer("alice", 20);
+        cache.validate(gamer);
+        cache.validate(gamer);
+        assertEquals(1, cache.hits());
+
+        gamer.setAge(5);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.validate(gamer));
+        assertEquals(0, cache.size());
+        gamer.setAge(30);
+        cache.validate(gamer);
+        cache.validate(gamer);
+        assertEquals(2, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    void remembersImmutableObjectsByValue() throws Exception {
+        ValidationCache cache = new ValidationCache(100);
+
+        cache.validate(new Code("A1", 1));
+        cache.validate(new Code("A1", 1));
+        cache.validate(new Code("A1", 2));
+
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void remembersImmutableObjectsWithCascadesByIdentity() throws Exception {
+        ValidationCache cache = new ValidationCache(100);
+        cache.validate(new Order("42", new Account("alice")));
+
+        assertThrows(IllegalArgumentException.class, () -> cache.validate(new Order("42", new Account("al"))));
+        assertEquals(0, cache.hits());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 15, 16, 17, 100})
+    void neverHoldsMoreThanTheMaximumSize(int maximumSize) throws Exception {
+        ValidationCache cache = new ValidationCache(maximumSize);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < maximumSize * 20; i++) {
+            Account account = new Account("user" + i % 1000);
+            accounts.add(account);
+            cache.validate(account);
+            assertTrue(cache.size() <= maximumSize, () -> cache.size() + " entries in a cache of " + maximumSize);
+        }
+        assertEquals(accounts.size() - cache.size(), cache.evictions());
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ValidationCache(0));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationMetricsTest {
+
+    static class Sample {
+        @NotNull
+        private String name = "sample";
+    }
+
+    @Test
+    void registersClassBeansOnlyWhileEnabled() throws Exception {
+        ObjectName name = new ObjectName("org.example.annotations:type=ValidatedClass,name="
+                + ObjectName.quote(Sample.class.getName()));
+        assertFalse(ValidationMetrics.isEnabled());
+
+        ValidationMetrics.forClass(Sample.class);
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+
+        try {
+            ValidationMetrics.setEnabled(true);
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+            Validator.validate(new Sample());
+            assertEquals(1, ValidationMetrics.forClass(Sample.class).getValidations());
+        } finally {
+            ValidationMetrics.setEnabled(false);
+        }
+    }
+
+    @Test
+    void disabledStartIsNeverRecorded() {
+        assertEquals(Long.MIN_VALUE, ValidationMetrics.start());
+        ValidationMetrics.recordManual(Sample.class, ValidationMetrics.start(), false);
+        assertEquals(0, ValidationMetrics.forClass(Sample.class).getFailures());
+    }
+}
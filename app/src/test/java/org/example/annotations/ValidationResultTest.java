@@ -0,0 +1,121 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationResultTest {
+
+    static class Profile {
+        @NotNull
+        private String name;
+
+        @StringLength(min = 3, max = 8)
+        private String nick;
+
+        @MinValue(18)
+        @MaxValue(99)
+        private int age;
+
+        Profile(String name, String nick, int age) {
+            this.name = name;
+            this.nick = nick;
+            this.age = age;
+        }
+    }
+
+    static class Form {
+        @NotNull
+        private String a;
+        @NotNull
+        private String b;
+        @NotNull
+        private String c;
+        @NotNull
+        private String d;
+        @NotNull
+        private String e;
+        @NotNull
+        private String f;
+    }
+
+    @Test
+    void recordsTheViolationInsteadOfThrowing() {
+        ValidationResult result = new ValidationResult();
+
+        assertFalse(Validator.validate(new Gamer(null, 18), result));
+
+        assertFalse(result.isValid());
+        assertEquals(1, result.violationCount());
+        assertEquals(Gamer.class, result.validatedClass(0));
+        assertEquals("username", result.fieldName(0));
+        assertEquals(Constraint.NOT_NULL, result.constraint(0));
+        assertEquals(-1, result.elementIndex(0));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Validator.validate(new Gamer(null, 18)));
+        assertEquals(e.getMessage(), result.message(0));
+    }
+
+    @Test
+    void stopsAtTheFirstViolationByDefault() {
+        ValidationResult result = new ValidationResult();
+
+        assertFalse(Validator.validate(new Profile(null, "ab", 10), result));
+
+        assertFalse(result.isCollectAll());
+        assertEquals(1, result.violationCount());
+        assertEquals(Constraint.NOT_NULL, result.constraint(0));
+    }
+
+    @Test
+    void collectAllReportsEveryFailingField() {
+        ValidationResult result = new ValidationResult(true);
+
+        assertFalse(Validator.validate(new Profile(null, "ab", 100), result));
+
+        assertEquals(3, result.violationCount());
+        assertEquals(0, result.fieldIndex(0));
+        assertEquals(1, result.fieldIndex(1));
+        assertEquals(Constraint.STRING_LENGTH, result.constraint(1));
+        assertEquals(3, result.bound(1));
+        assertEquals(2, result.fieldIndex(2));
+        assertEquals(Constraint.MAX_VALUE, result.constraint(2));
+        assertEquals(99, result.bound(2));
+        assertEquals(List.of(
+                MessageCatalog.notNull(Profile.class, "name"),
+                MessageCatalog.length(Profile.class, "nick", 3, 8),
+                MessageCatalog.maxValue(Profile.class, "age", 99)), result.messages());
+    }
+
+    @Test
+    void reusedResultIsClearedAndGrows() {
+        ValidationResult result = new ValidationResult(true);
+
+        assertFalse(Validator.validate(new Form(), result));
+        assertEquals(6, result.violationCount());
+        assertEquals("f", result.fieldName(5));
+
+        assertTrue(Validator.validate(new Profile("alice", "ali", 30), result));
+        assertTrue(result.isValid());
+        assertEquals(0, result.violationCount());
+
+        assertFalse(Validator.validate(new Profile("alice", "ali", 5), result));
+        assertEquals(1, result.violationCount());
+        assertEquals(Profile.class, result.validatedClass(0));
+        assertEquals(Constraint.MIN_VALUE, result.constraint(0));
+    }
+
+    @Test
+    void rejectsIndexesWithoutAViolation() {
+        ValidationResult result = new ValidationResult();
+        Validator.validate(new Gamer("alice", 20), result);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> result.constraint(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> result.message(-1));
+    }
+}
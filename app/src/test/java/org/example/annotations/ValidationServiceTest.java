@@ -0,0 +1,90 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationServiceTest {
+
+    @Test
+    void fullBatchIsFlushedWithoutWaiting() throws Exception {
+        try (ValidationService service = new ValidationService(2, Duration.ofMinutes(1), Runnable::run)) {
+            CompletableFuture<Void> first = service.submit(new Gamer("alice", 20));
+            assertFalse(first.isDone());
+            CompletableFuture<Void> second = service.submit(new Gamer("bob", 30));
+
+            assertTrue(first.isDone());
+            assertNull(second.get());
+            assertEquals(1, service.getBatches());
+            assertEquals(2.0, service.getMeanBatchSize());
+        }
+    }
+
+    @Test
+    void partialBatchIsFlushedByTheTimer() throws Exception {
+        try (ValidationService service = new ValidationService(100, Duration.ofMillis(10), Runnable::run)) {
+            assertNull(service.submit(new Gamer("alice", 20)).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void timerOfAFullBatchDoesNotFlushTheNextOne() throws Exception {
+        try (ValidationService service = new ValidationService(2, Duration.ofMillis(300), Runnable::run)) {
+            service.submit(new Gamer("alice", 20));
+            service.submit(new Gamer("bob", 30));
+            Thread.sleep(150);
+            CompletableFuture<Void> next = service.submit(new Gamer("carol", 40));
+
+            // The timer armed by the first batch would have fired by now.
+            Thread.sleep(250);
+            assertFalse(next.isDone());
+            assertNull(next.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void violationsCompleteWithTheValidatorException() {
+        try (ValidationService service = new ValidationService(1, Duration.ZERO, Runnable::run)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> service.submit(new Gamer(null, 20)).get());
+
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals(MessageCatalog.notNull(Gamer.class, "username"), e.getCause().getMessage());
+            assertEquals(1, service.getFailures());
+        }
+    }
+
+    @Test
+    void successfulValidationClearsDirtyFields() throws Exception {
+        Gamer gamer = new Gamer("alice", 20);
+        gamer.setAge(30);
+
+        try (ValidationService service = new ValidationService(1, Duration.ZERO, Runnable::run)) {
+            service.submit(gamer).get();
+        }
+
+        assertFalse(gamer.dirtyFields().isDirty());
+    }
+
+    @Test
+    void closeFlushesPendingSubmissionsAndRejectsNewOnes() throws Exception {
+        ValidationService service = new ValidationService(100, Duration.ofMinutes(1), Runnable::run);
+        CompletableFuture<Void> pending = service.submit(new Gamer("alice", 20));
+
+        service.close();
+
+        assertNull(pending.get(0, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> service.submit(new Gamer("bob", 30)));
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.annotations;
+
+import org.example.Gamer;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationWarmupTest {
+
+    static class Account {
+        @NotNull
+        private String name;
+
+        private String note;
+
+        @MinValue(0)
+        private int balance;
+    }
+
+    static class SavingsAccount extends Account {
+        private double rate;
+    }
+
+    static class Ledger {
+        @Valid
+        private Account account;
+    }
+
+    static class Plain {
+        private String name;
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void scanFindsClassesWithDeclaredOrInheritedConstraints() throws IOException {
+        List<Class<?>> types = ValidationWarmup.scan("org.example");
+
+        assertTrue(types.containsAll(List.of(Gamer.class, Item.class, Account.class, SavingsAccount.class, Ledger.class)));
+        assertFalse(types.contains(Plain.class));
+        assertFalse(types.contains(ValidationWarmupTest.class));
+        assertEquals(types.stream().sorted(Comparator.comparing(Class::getName)).toList(), types);
+    }
+
+    @Test
+    void indexListsTheClassesAndTheirConstrainedFields() throws IOException {
+        Path index = directory.resolve("validation.idx");
+        List<Class<?>> types = List.of(SavingsAccount.class, Ledger.class);
+
+        ValidationWarmup.writeIndex(index, types);
+
+        assertEquals(List.of("# validation plan index 1",
+                SavingsAccount.class.getName() + " name,balance",
+                Ledger.class.getName() + " account"), Files.readAllLines(index));
+        assertEquals(types, ValidationWarmup.readIndex(index));
+    }
+
+    @Test
+    void staleIndexesAreRejected() throws IOException {
+        Path index = directory.resolve("validation.idx");
+
+        write(index, "# validation plan index 0", Account.class.getName() + " name,balance");
+        assertNull(ValidationWarmup.readIndex(index));
+        write(index, "# validation plan index 1", Account.class.getName() + " name");
+        assertNull(ValidationWarmup.readIndex(index));
+        write(index, "# validation plan index 1", "org.example.Missing name");
+        assertNull(ValidationWarmup.readIndex(index));
+    }
+
+    @Test
+    void warmUpUsesAValidIndexInsteadOfScanning() throws IOException {
+        Path index = directory.resolve("validation.idx");
+        write(index, "# validation plan index 1", Account.class.getName() + " name,balance");
+
+        assertEquals(List.of(Account.class), ValidationWarmup.warmUp(index, "org.example"));
+    }
+
+    @Test
+    void warmUpRewritesAStaleIndex() throws IOException {
+        Path index = directory.resolve("validation.idx");
+        write(index, "# validation plan index 1", "org.example.Missing name");
+
+        assertEquals(List.of(), ValidationWarmup.warmUp(index, "org.example.unused"));
+        assertEquals(List.of("# validation plan index 1"), Files.readAllLines(index));
+    }
+
+    @Test
+    void warmUpBuildsThePlans() {
+        assertEquals(2, ValidationWarmup.warmUp(List.of(Account.class, Ledger.class)));
+        assertEquals(2, ValidationPlan.of(Account.class).checks.length);
+        assertEquals(1, ValidationPlan.of(Ledger.class).cascades.length);
+    }
+
+    private static void write(Path index, String... lines) throws IOException {
+        Files.write(index, List.of(lines), StandardCharsets.UTF_8);
+    }
+}
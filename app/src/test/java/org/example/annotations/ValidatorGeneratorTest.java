@@ -0,0 +1,81 @@
+package org.example.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorGeneratorTest {
+
+    static class Account {
+        @NotNull
+        @StringLength(min = 3, max = 8)
+        private String name;
+
+        @MinValue(18)
+        @MaxValue(99)
+        private int age;
+
+        @MaxValue(10)
+        private Integer level;
+
+        Account(String name, int age, Integer level) {
+            this.name = name;
+            this.age = age;
+            this.level = level;
+        }
+    }
+
+    static class Misplaced {
+        @StringLength(min = 1, max = 2)
+        private int count;
+    }
+
+    static class Limited {
+        @LongRange(min = 0, max = 10)
+        private long amount;
+    }
+
+    @Test
+    void generatesHiddenNestmateReadingPrivateFields() {
+        CompiledValidator validator = ValidatorGenerator.generate(ValidationPlan.of(Account.class));
+
+        assertNotNull(validator);
+        assertTrue(validator.getClass().isHidden());
+        assertDoesNotThrow(() -> validator.validate(new Account("alice", 30, 5)));
+    }
+
+    @Test
+    void throwsTheSameMessagesAsTheReflectivePath() {
+        CompiledValidator validator = ValidatorGenerator.generate(ValidationPlan.of(Account.class));
+
+        assertMessage(validator, new Account(null, 30, 5), MessageCatalog.notNull(Account.class, "name"));
+        assertMessage(validator, new Account("al", 30, 5), MessageCatalog.length(Account.class, "name", 3, 8));
+        assertMessage(validator, new Account("alice", 17, 5), MessageCatalog.minValue(Account.class, "age", 18));
+        assertMessage(validator, new Account("alice", 100, 5), MessageCatalog.maxValue(Account.class, "age", 99));
+        assertMessage(validator, new Account("alice", 30, 11), MessageCatalog.maxValue(Account.class, "level", 10));
+    }
+
+    @Test
+    void reportsUnsupportedFieldTypesAsIllegalState() {
+        CompiledValidator validator = ValidatorGenerator.generate(ValidationPlan.of(Misplaced.class));
+
+        assertNotNull(validator);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> validator.validate(new Misplaced()));
+        assertEquals(MessageCatalog.message(Misplaced.class, "count", Constraint.STRING_TYPE), e.getMessage());
+    }
+
+    @Test
+    void leavesTypedRangesToTheReflectivePlan() {
+        assertNull(ValidatorGenerator.generate(ValidationPlan.of(Limited.class)));
+    }
+
+    private static void assertMessage(CompiledValidator validator, Object obj, String expected) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> validator.validate(obj));
+        assertEquals(expected, e.getMessage());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.benchmarks;
+
+import org.example.Gamer;
+import org.example.annotations.ColumnarValidator;
+import org.example.annotations.ValidationResult;
+import org.example.annotations.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ColumnarValidationBenchmark} class compares {@link ColumnarValidator} on
+ * {@code username}/{@code age} columns with validating one {@link Gamer} object per row.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ColumnarValidationBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private String[] usernames;
+    private int[] ages;
+    private Gamer[] gamers;
+    private ColumnarValidator columnar;
+    private ValidationResult result;
+
+    /**
+     * Creates the columns, with every tenth age out of range, and the equivalent objects.
+     */
+    @Setup
+    public void setUp() {
+        usernames = new String[rows];
+        ages = new int[rows];
+        gamers = new Gamer[rows];
+        for (int i = 0; i < rows; i++) {
+            usernames[i] = "player" + i;
+            ages[i] = i % 10 == 0 ? 7 : 18 + i % 50;
+            gamers[i] = new Gamer(usernames[i], ages[i]);
+        }
+        columnar = ColumnarValidator.of(Gamer.class).bind("username", usernames).bind("age", ages);
+        result = new ValidationResult();
+    }
+
+    @Benchmark
+    public BitSet columns() {
+        return columnar.validate();
+    }
+
+    @Benchmark
+    public int objects() {
+        int invalid = 0;
+        for (Gamer gamer : gamers) {
+            if (!Validator.validate(gamer, result)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.benchmarks;
+
+import org.example.annotations.HistogramBuckets;
+
+/**
+ * The {@code Histogram} class records latencies in log-linear buckets, in the manner of HdrHistogram.
+ * <p>
+ * Every power of two is split into 128 linear {@link HistogramBuckets}, which bounds the relative
+ * error of a percentile to under 1%. An instance is written by a single thread without any
+ * synchronization; the histograms of all threads are combined with {@link #add(Histogram)} after the run.
+ * </p>
+ */
+final class Histogram {
+
+    private static final HistogramBuckets LAYOUT = new HistogramBuckets(7);
+    private static final int BUCKETS = LAYOUT.count();
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long max;
+
+    /**
+     * Records a duration; negative values are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[LAYOUT.index(value)]++;
+        count++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds the recorded values of another histogram to this one.
+     *
+     * @param other the histogram to merge
+     */
+    void add(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long max() {
+        return max;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the specified percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentile(double percentile) {
+        return LAYOUT.percentile(counts, count, max, percentile);
+    }
+}
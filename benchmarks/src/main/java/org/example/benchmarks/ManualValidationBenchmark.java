@@ -0,0 +1,122 @@
+package org.example.benchmarks;
+
+import org.example.Plane;
+import org.example.TypedGamer;
+import org.example.TypedItem;
+import org.example.TypedPlane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ManualValidationBenchmark} class measures the hand-written validation
+ * of {@link Plane#validate()} and of the {@link TypedGamer}, {@link TypedItem} and
+ * {@link TypedPlane} constructors.
+ * <p>
+ * Constructor arguments are read from non-final fields so that the JIT cannot fold them
+ * into constants. Invalid inputs return the thrown exception.
+ * </p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ManualValidationBenchmark {
+
+    private String username;
+    private int age;
+    private String title;
+    private String description;
+    private String invalidDescription;
+    private String model;
+    private String invalidModel;
+    private int year;
+    private Plane validPlane;
+    private Plane invalidPlane;
+
+    /**
+     * Creates the validated objects and constructor arguments.
+     */
+    @Setup
+    public void setUp() {
+        username = "player";
+        age = 18;
+        title = "Xiomi Redmi 13T";
+        description = "A modern smartphone.";
+        invalidDescription = "T";
+        model = "Boeing 747";
+        invalidModel = "B";
+        year = 1990;
+        validPlane = new Plane(model, year);
+        invalidPlane = new Plane(invalidModel, year);
+    }
+
+    @Benchmark
+    public Object validPlane() {
+        validPlane.validate();
+        return validPlane;
+    }
+
+    @Benchmark
+    public Object invalidPlane() {
+        try {
+            invalidPlane.validate();
+            return invalidPlane;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validTypedGamer() {
+        return new TypedGamer(username, age);
+    }
+
+    @Benchmark
+    public Object invalidTypedGamer() {
+        try {
+            return new TypedGamer(null, age);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validTypedItem() {
+        return new TypedItem(title, description);
+    }
+
+    @Benchmark
+    public Object invalidTypedItem() {
+        try {
+            return new TypedItem(title, invalidDescription);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validTypedPlane() {
+        return new TypedPlane(model, year);
+    }
+
+    @Benchmark
+    public Object invalidTypedPlane() {
+        try {
+            return new TypedPlane(invalidModel, year);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.benchmarks;
+
+import org.example.annotations.MaxValue;
+import org.example.annotations.MinValue;
+import org.example.annotations.NotNull;
+import org.example.annotations.Validator;
+
+/**
+ * A gamer with the constraints of {@link org.example.Gamer}. The benchmarks module is compiled
+ * without the validator processor, so it has no generated validator, and
+ * {@link Validator#validate(Object)} runs the validator compiled from its plan at runtime.
+ */
+class Player {
+
+    @NotNull
+    private final String username;
+
+    @MinValue(12)
+    @MaxValue(100)
+    private final int age;
+
+    Player(String username, int age) {
+        this.username = username;
+        this.age = age;
+    }
+
+    /**
+     * A player whose constrained fields are inherited. Inherited fields are not compiled, so
+     * {@link Validator#validate(Object)} checks it through the reflective plan.
+     */
+    static final class Inherited extends Player {
+
+        Inherited(String username, int age) {
+            super(username, age);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.benchmarks;
+
+import org.example.annotations.NotNull;
+import org.example.annotations.StringLength;
+
+/**
+ * An item with the constraints of {@link org.example.Item}, without a generated validator like {@link Player}.
+ */
+class Product {
+
+    @NotNull
+    private final String title;
+
+    @StringLength(min = 3, max = 100)
+    private final String description;
+
+    Product(String title, String description) {
+        this.title = title;
+        this.description = description;
+    }
+
+    /**
+     * A product whose constrained fields are inherited, checked through the reflective plan like {@link Player.Inherited}.
+     */
+    static final class Inherited extends Product {
+
+        Inherited(String title, String description) {
+            super(title, description);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.benchmarks;
+
+import org.example.Gamer;
+import org.example.Item;
+import org.example.annotations.ValidationResult;
+import org.example.annotations.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ReflectionValidationBenchmark} class measures the annotation-driven validation
+ * of a gamer and an item through {@link Validator}, on each path it can take.
+ * <p>
+ * The {@code path} parameter selects the validated classes:
+ * </p>
+ * <ul>
+ *     <li>{@code generated} — {@link Gamer} and {@link Item}, checked by the validators generated at build time;</li>
+ *     <li>{@code compiled} — {@link Player} and {@link Product}, with the same constraints but no generated
+ *     validator, checked by the hidden class compiled from their plans;</li>
+ *     <li>{@code reflective} — {@link Player.Inherited} and {@link Product.Inherited}, whose inherited
+ *     fields are not compiled, checked by the reflective plan.</li>
+ * </ul>
+ * <p>
+ * Each object is validated with a valid and an invalid input, both through the throwing
+ * {@link Validator#validate(Object)} and through the non-throwing
+ * {@link Validator#validate(Object, ValidationResult)}. Exceptions are returned so that
+ * the JIT cannot eliminate them.
+ * </p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ReflectionValidationBenchmark {
+
+    @Param({"generated", "compiled", "reflective"})
+    private String path;
+
+    private Object validGamer;
+    private Object invalidGamer;
+    private Object validItem;
+    private Object invalidItem;
+    private ValidationResult result;
+
+    /**
+     * Creates the validated objects of the selected path and the reusable result.
+     */
+    @Setup
+    public void setUp() {
+        switch (path) {
+            case "generated" -> {
+                validGamer = new Gamer("player", 18);
+                invalidGamer = new Gamer(null, 18);
+                validItem = new Item("Xiomi Redmi 13T", "A modern smartphone.");
+                invalidItem = new Item("Xiomi Redmi 13T", "T");
+            }
+            case "compiled" -> {
+                validGamer = new Player("player", 18);
+                invalidGamer = new Player(null, 18);
+                validItem = new Product("Xiomi Redmi 13T", "A modern smartphone.");
+                invalidItem = new Product("Xiomi Redmi 13T", "T");
+            }
+            case "reflective" -> {
+                validGamer = new Player.Inherited("player", 18);
+                invalidGamer = new Player.Inherited(null, 18);
+                validItem = new Product.Inherited("Xiomi Redmi 13T", "A modern smartphone.");
+                invalidItem = new Product.Inherited("Xiomi Redmi 13T", "T");
+            }
+            default -> throw new IllegalArgumentException("Unknown path '" + path + "'.");
+        }
+        result = new ValidationResult();
+    }
+
+    @Benchmark
+    public Object validGamer() throws Exception {
+        Validator.validate(validGamer);
+        return validGamer;
+    }
+
+    @Benchmark
+    public Object invalidGamer() {
+        try {
+            Validator.validate(invalidGamer);
+            return invalidGamer;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validItem() throws Exception {
+        Validator.validate(validItem);
+        return validItem;
+    }
+
+    @Benchmark
+    public Object invalidItem() {
+        try {
+            Validator.validate(invalidItem);
+            return invalidItem;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean validGamerResult() {
+        return Validator.validate(validGamer, result);
+    }
+
+    @Benchmark
+    public boolean invalidGamerResult() {
+        return Validator.validate(invalidGamer, result);
+    }
+
+    @Benchmark
+    public boolean validItemResult() {
+        return Validator.validate(validItem, result);
+    }
+
+    @Benchmark
+    public boolean invalidItemResult() {
+        return Validator.validate(invalidItem, result);
+    }
+}
@@ -0,0 +1,303 @@
+package org.example.benchmarks;
+
+import org.example.Plane;
+import org.example.TypedGamer;
+import org.example.TypedItem;
+import org.example.TypedPlane;
+import org.example.annotations.Validator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * The {@code ScalabilityHarness} class measures how validation scales with the number of
+ * concurrent threads, and fails when the scaling curve regresses against a stored baseline.
+ * <p>
+ * Three workloads are run: the reflective {@link Validator#validate(Object)} of {@link Player.Inherited}
+ * and {@link Product.Inherited}, the hand-written {@link Plane#validate()}, and the validating constructors of
+ * {@link TypedGamer}, {@link TypedItem} and {@link TypedPlane}. Each one runs at every requested
+ * thread count, on platform and on virtual threads. Every thread times each operation into its
+ * own {@link Histogram}, so measuring adds no shared state; after a warm-up, the histograms of one
+ * measurement are merged into throughput and p50/p99/p99.9 latencies.
+ * </p>
+ * <p>
+ * The scaling efficiency of a point is its throughput divided by the per-thread throughput of the
+ * smallest requested thread count times the number of threads that can run at once ({@code min(threads, cores)});
+ * 100% is linear scaling, and contention on shared state shows up as a falling curve. Virtual
+ * threads that never block are not preempted, so beyond the number of carrier threads they show
+ * the scheduler's behaviour rather than more parallelism. Efficiencies do not depend
+ * on the absolute speed of the machine, so they are what the baseline stores and compares.
+ * </p>
+ * <p>
+ * Unlike the JMH benchmarks, the harness is a plain program, since JMH cannot run benchmark
+ * methods on virtual threads:
+ * </p>
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmarks.ScalabilityHarness \
+ *         --threads 1,2,4,8,16,32,64 --write-baseline scalability.properties
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmarks.ScalabilityHarness \
+ *         --threads 1,2,4,8,16,32,64 --baseline scalability.properties --tolerance 0.15
+ * }</pre>
+ * The second run exits with status 1 if the efficiency of any point is more than the tolerance
+ * below its baseline.
+ */
+public final class ScalabilityHarness {
+
+    private static final String[] WORKLOADS = {"reflective", "plane", "typed"};
+    private static final String[] KINDS = {"platform", "virtual"};
+
+    private final int[] threadCounts;
+    private final long warmupNanos;
+    private final long measureNanos;
+    private final int cores = Runtime.getRuntime().availableProcessors();
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    private ScalabilityHarness(int[] threadCounts, long warmupMillis, long measureMillis) {
+        this.threadCounts = threadCounts.clone();
+        Arrays.sort(this.threadCounts);
+        this.warmupNanos = warmupMillis * 1_000_000;
+        this.measureNanos = measureMillis * 1_000_000;
+    }
+
+    /**
+     * Runs the harness.
+     * <ul>
+     *     <li>{@code --threads 1,2,4} — the thread counts, by default powers of two up to twice the cores;</li>
+     *     <li>{@code --warmup 1000} and {@code --duration 2000} — the warm-up and measurement time per point, in milliseconds;</li>
+     *     <li>{@code --workloads reflective,plane,typed} and {@code --kinds platform,virtual} — the points to run;</li>
+     *     <li>{@code --baseline file} — compares the efficiencies with a baseline and exits with 1 on a regression;</li>
+     *     <li>{@code --tolerance 0.15} — the allowed relative drop of an efficiency;</li>
+     *     <li>{@code --write-baseline file} — stores the measured efficiencies as the new baseline.</li>
+     * </ul>
+     *
+     * @param args the options
+     * @throws Exception if a baseline cannot be read or written, or the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option, found '" + args[i] + "'.");
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = options.containsKey("threads") ? parseInts(options.get("threads")) : powersOfTwo(2 * cores);
+        ScalabilityHarness harness = new ScalabilityHarness(threadCounts,
+                Long.parseLong(options.getOrDefault("warmup", "1000")),
+                Long.parseLong(options.getOrDefault("duration", "2000")));
+        String[] workloads = options.getOrDefault("workloads", String.join(",", WORKLOADS)).split(",");
+        String[] kinds = options.getOrDefault("kinds", String.join(",", KINDS)).split(",");
+
+        System.out.printf(Locale.ROOT, "%d cores, %s%n%n", cores, Runtime.version());
+        System.out.printf(Locale.ROOT, "%-10s %-8s %7s %14s %9s %9s %9s %10s%n",
+                "workload", "kind", "threads", "ops/s", "p50 ns", "p99 ns", "p999 ns", "efficiency");
+        Map<String, Double> efficiencies = new TreeMap<>();
+        for (String workload : workloads) {
+            for (String kind : kinds) {
+                efficiencies.putAll(harness.run(workload.trim(), kind.trim()));
+            }
+        }
+
+        if (options.containsKey("write-baseline")) {
+            writeBaseline(Path.of(options.get("write-baseline")), efficiencies);
+        }
+        if (options.containsKey("baseline")) {
+            double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.15"));
+            List<String> regressions = compare(readBaseline(Path.of(options.get("baseline"))), efficiencies, tolerance);
+            if (!regressions.isEmpty()) {
+                System.out.println();
+                System.out.println("Scaling regressions against " + options.get("baseline") + ":");
+                regressions.forEach(regression -> System.out.println("  " + regression));
+                System.exit(1);
+            }
+            System.out.println();
+            System.out.println("No scaling regression against " + options.get("baseline") + ".");
+        }
+    }
+
+    /**
+     * Measures one workload on one kind of threads at every thread count.
+     *
+     * @return the efficiency of every point, keyed by {@code workload.kind.threads}
+     */
+    private Map<String, Double> run(String workload, String kind) throws InterruptedException {
+        Map<String, Double> efficiencies = new LinkedHashMap<>();
+        double single = 0;
+        for (int threads : threadCounts) {
+            Point point = measure(workload, kind, threads);
+            if (single == 0) {
+                single = point.throughput / Math.min(threads, cores);
+            }
+            double efficiency = point.throughput / (single * Math.min(threads, cores));
+            efficiencies.put(workload + "." + kind + "." + threads, efficiency);
+            System.out.printf(Locale.ROOT, "%-10s %-8s %7d %,14.0f %9d %9d %9d %9.1f%%%n",
+                    workload, kind, threads, point.throughput, point.latency.percentile(50),
+                    point.latency.percentile(99), point.latency.percentile(99.9), efficiency * 100);
+        }
+        return efficiencies;
+    }
+
+    /**
+     * Runs a workload on the specified number of threads: all threads start together, warm up,
+     * and then record every operation until the measurement ends.
+     */
+    private Point measure(String workload, String kind, int threads) throws InterruptedException {
+        measuring = false;
+        stopped = false;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Histogram[] histograms = new Histogram[threads];
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            Histogram histogram = new Histogram();
+            histograms[i] = histogram;
+            Operation operation = operation(workload, i);
+            Runnable task = () -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!measuring) {
+                    operation.run();
+                }
+                while (!stopped) {
+                    long begin = System.nanoTime();
+                    operation.run();
+                    histogram.record(System.nanoTime() - begin);
+                }
+            };
+            workers[i] = kind.equals("virtual")
+                    ? Thread.ofVirtual().name(workload + "-" + i).unstarted(task)
+                    : Thread.ofPlatform().name(workload + "-" + i).daemon().unstarted(task);
+            workers[i].start();
+        }
+        ready.await();
+        start.countDown();
+        Thread.sleep(warmupNanos / 1_000_000);
+        long begin = System.nanoTime();
+        measuring = true;
+        Thread.sleep(measureNanos / 1_000_000);
+        stopped = true;
+        long elapsed = System.nanoTime() - begin;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Histogram latency = new Histogram();
+        for (Histogram histogram : histograms) {
+            latency.add(histogram);
+        }
+        return new Point(latency.count() * 1e9 / elapsed, latency);
+    }
+
+    /**
+     * Creates the operation of one thread; every thread validates its own objects, so only the
+     * validators themselves are shared.
+     */
+    private static Operation operation(String workload, int thread) {
+        String name = "player" + thread;
+        return switch (workload) {
+            case "reflective" -> {
+                Player player = new Player.Inherited(name, 18 + thread % 80);
+                Product product = new Product.Inherited("Xiomi Redmi 13T", "A modern smartphone.");
+                yield () -> {
+                    try {
+                        Validator.validate(player);
+                        Validator.validate(product);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+            case "plane" -> {
+                Plane plane = new Plane("Boeing 747", 1970 + thread % 50);
+                yield plane::validate;
+            }
+            case "typed" -> () -> {
+                new TypedGamer(name, 18);
+                new TypedItem("Xiomi Redmi 13T", "A modern smartphone.");
+                new TypedPlane("Boeing 747", 1990);
+            };
+            default -> throw new IllegalArgumentException("Unknown workload '" + workload + "'.");
+        };
+    }
+
+    private static List<String> compare(Map<String, Double> baseline, Map<String, Double> measured, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : measured.entrySet()) {
+            Double expected = baseline.get(entry.getKey());
+            if (expected != null && entry.getValue() < expected * (1 - tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: efficiency %.1f%%, baseline %.1f%%",
+                        entry.getKey(), entry.getValue() * 100, expected * 100));
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, Double> readBaseline(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, Double> baseline = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            baseline.put(key, Double.parseDouble(properties.getProperty(key)));
+        }
+        return baseline;
+    }
+
+    private static void writeBaseline(Path file, Map<String, Double> efficiencies) throws IOException {
+        Properties properties = new Properties();
+        efficiencies.forEach((key, efficiency) -> properties.setProperty(key, String.format(Locale.ROOT, "%.4f", efficiency)));
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "Scaling efficiency per workload, thread kind and thread count");
+        }
+    }
+
+    private static int[] parseInts(String list) {
+        String[] parts = list.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static int[] powersOfTwo(int max) {
+        List<Integer> values = new ArrayList<>();
+        for (int n = 1; n <= max; n *= 2) {
+            values.add(n);
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A unit of work of a workload.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        void run();
+    }
+
+    /**
+     * The measured throughput and merged latencies of one thread count.
+     */
+    private record Point(double throughput, Histogram latency) {
+    }
+}
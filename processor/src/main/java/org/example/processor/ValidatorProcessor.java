@@ -0,0 +1,394 @@
+package org.example.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code ValidatorProcessor} class generates validators for annotated classes at build time.
+ * <p>
+ * For every class with fields annotated by {@code @NotNull}, {@code @StringLength},
+ * {@code @MinValue} or {@code @MaxValue}, the processor writes a {@code <Class>Validator}
+ * source file in the same package. The generated class implements
+ * {@code org.example.annotations.GeneratedValidator} with straight-line checks, takes its error
+ * messages from the factories of {@code org.example.annotations.MessageCatalog} once, into
+ * constants, so they are worded like those of the reflective {@code Validator}, and is registered in
+ * {@code META-INF/services} so that {@code Validator.validate} finds it before falling back
+ * to reflection.
+ * </p>
+ * <p>
+ * Classes the generated code cannot reach directly (private classes or private fields), classes
+ * inheriting constrained fields, fields with typed range constraints ({@code @LongRange},
+ * {@code @DoubleRange}, {@code @DecimalRange}) or {@code @Pattern}, and fields of types other than {@code String},
+ * {@code int} and {@code Integer} are skipped;
+ * such classes are still validated at runtime.
+ * </p>
+ */
+@SupportedAnnotationTypes({
+        ValidatorProcessor.NOT_NULL,
+        ValidatorProcessor.STRING_LENGTH,
+        ValidatorProcessor.MIN_VALUE,
+        ValidatorProcessor.MAX_VALUE
+})
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String NOT_NULL = "org.example.annotations.NotNull";
+    static final String STRING_LENGTH = "org.example.annotations.StringLength";
+    static final String MIN_VALUE = "org.example.annotations.MinValue";
+    static final String MAX_VALUE = "org.example.annotations.MaxValue";
+    static final String LONG_RANGE = "org.example.annotations.LongRange";
+    static final String DOUBLE_RANGE = "org.example.annotations.DoubleRange";
+    static final String DECIMAL_RANGE = "org.example.annotations.DecimalRange";
+    static final String PATTERN = "org.example.annotations.Pattern";
+
+    private static final String GENERATED_VALIDATOR = "org.example.annotations.GeneratedValidator";
+    private static final String MESSAGE_CATALOG = "org.example.annotations.MessageCatalog";
+
+    private final Set<String> generated = new LinkedHashSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            generate(type);
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        List<FieldConstraints> fields = new ArrayList<>();
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.FIELD) {
+                FieldConstraints field = FieldConstraints.of((VariableElement) element);
+                if (field != null) {
+                    fields.add(field);
+                }
+            }
+        }
+        String reason = unsupportedReason(type, fields);
+        if (reason != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "No validator generated for " + type.getQualifiedName() + ": " + reason, type);
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String simpleName = validatorName(type);
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(packageName, simpleName, type, fields));
+            }
+            generated.add(qualifiedName);
+            originatingElements.add(type);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private static String unsupportedReason(TypeElement type, List<FieldConstraints> fields) {
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return "local and anonymous classes are not supported.";
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return "the class is not accessible from its package.";
+            }
+        }
+        for (TypeMirror parent = type.getSuperclass(); parent.getKind() == TypeKind.DECLARED;
+             parent = ((TypeElement) ((DeclaredType) parent).asElement()).getSuperclass()) {
+            TypeElement superclass = (TypeElement) ((DeclaredType) parent).asElement();
+            for (Element element : superclass.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.FIELD && FieldConstraints.of((VariableElement) element) != null) {
+                    return "superclass " + superclass.getQualifiedName() + " declares constrained fields.";
+                }
+            }
+        }
+        for (FieldConstraints field : fields) {
+            if (field.element.getModifiers().contains(Modifier.PRIVATE)) {
+                return "field '" + field.name + "' is private.";
+            }
+            if (field.typedRange) {
+                return "field '" + field.name + "' has a typed range constraint.";
+            }
+            if (field.pattern) {
+                return "field '" + field.name + "' has a @Pattern constraint.";
+            }
+            if (field.kind == null) {
+                return "field '" + field.name + "' is not of type String, int or Integer.";
+            }
+        }
+        return null;
+    }
+
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element element = type.getEnclosingElement(); element instanceof TypeElement;
+             element = element.getEnclosingElement()) {
+            name.insert(0, element.getSimpleName() + "_");
+        }
+        return name.append("Validator").toString();
+    }
+
+    /**
+     * Builds the source of a validator. The checks mirror the order of the reflective
+     * {@code Validator}: null, length, maximum and minimum, field by field. A check that can
+     * only fail ends the method, since any statement after it would be unreachable. Every
+     * message is a constant initialized by a {@code MessageCatalog} factory.
+     */
+    private static String source(String packageName, String simpleName, TypeElement type,
+                                 List<FieldConstraints> fields) {
+        String typeName = type.getQualifiedName().toString();
+        StringBuilder checks = new StringBuilder();
+        Map<String, String> messages = new LinkedHashMap<>();
+        for (FieldConstraints field : fields) {
+            String ref = (field.isStatic ? typeName : "target") + "." + field.name;
+            if (appendChecks(checks, ref, typeName, field, messages)) {
+                break;
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n")
+                .append(" * Validator for {@link ").append(typeName).append("}, generated from its constraint annotations.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(GENERATED_VALIDATOR).append(" {\n\n");
+        messages.forEach((initializer, constant) -> out.append("    private static final String ").append(constant)
+                .append(" = ").append(initializer).append(";\n"));
+        if (!messages.isEmpty()) {
+            out.append("\n");
+        }
+        out.append("    @Override\n")
+                .append("    public Class<?> type() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void validate(Object obj) {\n")
+                .append("        ").append(typeName).append(" target = (").append(typeName).append(") obj;\n")
+                .append(checks)
+                .append("    }\n")
+                .append("}\n");
+        return out.toString();
+    }
+
+    private static boolean appendChecks(StringBuilder out, String ref, String typeName, FieldConstraints field,
+                                        Map<String, String> messages) {
+        String arguments = "(" + typeName + ".class, \"" + field.name + "\"";
+        String notString = "stringType" + arguments + ", \"StringLength\")";
+        String notInteger = "integerType" + arguments + ")";
+
+        if (field.kind != Kind.INT && field.notNull) {
+            appendIf(out, ref + " == null", "IllegalArgumentException", message(messages, "notNull" + arguments + ")"));
+        }
+        if (field.hasLength) {
+            if (field.kind != Kind.STRING) {
+                appendThrow(out, "IllegalStateException", message(messages, notString), "        ");
+                return true;
+            }
+            appendIf(out, ref + " == null", "IllegalStateException", message(messages, notString));
+            appendIf(out, ref + ".length() < " + field.minLength + " || " + ref + ".length() > " + field.maxLength,
+                    "IllegalArgumentException", message(messages,
+                            "length" + arguments + ", " + field.minLength + ", " + field.maxLength + ")"));
+        }
+        if (field.hasMin || field.hasMax) {
+            if (field.kind == Kind.STRING) {
+                appendThrow(out, "IllegalStateException", message(messages, notInteger), "        ");
+                return true;
+            }
+            if (field.kind == Kind.INTEGER) {
+                appendIf(out, ref + " == null", "IllegalStateException", message(messages, notInteger));
+            }
+            if (field.hasMax) {
+                appendIf(out, ref + " > " + field.max, "IllegalArgumentException",
+                        message(messages, "maxValue" + arguments + ", " + field.max + ")"));
+            }
+            if (field.hasMin) {
+                appendIf(out, ref + " < " + field.min, "IllegalArgumentException",
+                        message(messages, "minValue" + arguments + ", " + field.min + ")"));
+            }
+        }
+        return false;
+    }
+
+    private static void appendIf(StringBuilder out, String condition, String exception, String message) {
+        out.append("        if (").append(condition).append(") {\n");
+        appendThrow(out, exception, message, "            ");
+        out.append("        }\n");
+    }
+
+    private static void appendThrow(StringBuilder out, String exception, String message, String indent) {
+        out.append(indent).append("throw new ").append(exception).append("(").append(message).append(");\n");
+    }
+
+    /**
+     * Returns the constant holding the message built by a {@code MessageCatalog} factory call,
+     * declaring it on first use.
+     */
+    private static String message(Map<String, String> messages, String call) {
+        return messages.computeIfAbsent(MESSAGE_CATALOG + "." + call, initializer -> "MESSAGE_" + messages.size());
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + GENERATED_VALIDATOR, originatingElements.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                for (String name : generated) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write the validator service file: " + e.getMessage());
+        }
+    }
+
+    private enum Kind {
+        STRING, INT, INTEGER
+    }
+
+    /**
+     * The constraints declared on a single field, read from its annotation mirrors.
+     */
+    private static final class FieldConstraints {
+
+        final VariableElement element;
+        final String name;
+        final boolean isStatic;
+        final Kind kind;
+
+        boolean notNull;
+        boolean hasLength;
+        int minLength;
+        int maxLength;
+        boolean hasMin;
+        int min;
+        boolean hasMax;
+        int max;
+        boolean typedRange;
+        boolean pattern;
+
+        private FieldConstraints(VariableElement element) {
+            this.element = element;
+            this.name = element.getSimpleName().toString();
+            this.isStatic = element.getModifiers().contains(Modifier.STATIC);
+            this.kind = kindOf(element.asType());
+        }
+
+        /**
+         * Reads the constraints of the specified field.
+         *
+         * @return the constraints, or {@code null} if the field carries none
+         */
+        static FieldConstraints of(VariableElement element) {
+            FieldConstraints field = new FieldConstraints(element);
+            boolean constrained = false;
+            for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+                String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                switch (annotation) {
+                    case NOT_NULL -> field.notNull = true;
+                    case STRING_LENGTH -> {
+                        field.hasLength = true;
+                        field.minLength = intValue(mirror, "min");
+                        field.maxLength = intValue(mirror, "max");
+                    }
+                    case MIN_VALUE -> {
+                        field.hasMin = true;
+                        field.min = intValue(mirror, "value");
+                    }
+                    case MAX_VALUE -> {
+                        field.hasMax = true;
+                        field.max = intValue(mirror, "value");
+                    }
+                    case LONG_RANGE, DOUBLE_RANGE, DECIMAL_RANGE -> field.typedRange = true;
+                    case PATTERN -> field.pattern = true;
+                    default -> {
+                        continue;
+                    }
+                }
+                constrained = true;
+            }
+            return constrained ? field : null;
+        }
+
+        private static Kind kindOf(TypeMirror type) {
+            if (type.getKind() == TypeKind.INT) {
+                return Kind.INT;
+            }
+            if (type.getKind() == TypeKind.DECLARED) {
+                Element element = ((DeclaredType) type).asElement();
+                String name = ((TypeElement) element).getQualifiedName().toString();
+                if (name.equals("java.lang.String")) {
+                    return Kind.STRING;
+                }
+                if (name.equals("java.lang.Integer")) {
+                    return Kind.INTEGER;
+                }
+            }
+            return null;
+        }
+
+        private static int intValue(AnnotationMirror mirror, String name) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(name)) {
+                    return (Integer) entry.getValue().getValue();
+                }
+            }
+            for (Element member : mirror.getAnnotationType().asElement().getEnclosedElements()) {
+                if (member instanceof ExecutableElement method && method.getSimpleName().contentEquals(name)) {
+                    return (Integer) method.getDefaultValue().getValue();
+                }
+            }
+            throw new IllegalStateException("Annotation " + mirror + " has no element '" + name + "'.");
+        }
+    }
+}
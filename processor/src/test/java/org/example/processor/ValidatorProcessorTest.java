@@ -0,0 +1,220 @@
+package org.example.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorProcessorTest {
+
+    /**
+     * Stand-ins for the annotations and interfaces of the app module, which depends on the processor.
+     * The catalog describes each factory call instead of wording a message, so the tests show which
+     * call the generated code makes.
+     */
+    private static final Map<String, String> ANNOTATIONS = Map.of(
+            "org.example.annotations.NotNull", """
+                    package org.example.annotations;
+                    import java.lang.annotation.*;
+                    @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.FIELD)
+                    public @interface NotNull {}
+                    """,
+            "org.example.annotations.StringLength", """
+                    package org.example.annotations;
+                    import java.lang.annotation.*;
+                    @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.FIELD)
+                    public @interface StringLength { int min() default 0; int max() default Integer.MAX_VALUE; }
+                    """,
+            "org.example.annotations.MinValue", """
+                    package org.example.annotations;
+                    import java.lang.annotation.*;
+                    @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.FIELD)
+                    public @interface MinValue { int value(); }
+                    """,
+            "org.example.annotations.MaxValue", """
+                    package org.example.annotations;
+                    import java.lang.annotation.*;
+                    @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.FIELD)
+                    public @interface MaxValue { int value(); }
+                    """,
+            "org.example.annotations.Pattern", """
+                    package org.example.annotations;
+                    import java.lang.annotation.*;
+                    @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.FIELD)
+                    public @interface Pattern { String regexp(); }
+                    """,
+            "org.example.annotations.MessageCatalog", """
+                    package org.example.annotations;
+                    public final class MessageCatalog {
+                        private static String call(String name, Class<?> type, String field, Object... args) {
+                            StringBuilder call = new StringBuilder(name).append(' ').append(type.getSimpleName()).append('.').append(field);
+                            for (Object arg : args) call.append(' ').append(arg);
+                            return call.toString();
+                        }
+                        public static String notNull(Class<?> t, String f) { return call("notNull", t, f); }
+                        public static String length(Class<?> t, String f, int min, int max) { return call("length", t, f, min, max); }
+                        public static String minValue(Class<?> t, String f, long min) { return call("minValue", t, f, min); }
+                        public static String maxValue(Class<?> t, String f, long max) { return call("maxValue", t, f, max); }
+                        public static String stringType(Class<?> t, String f, String a) { return call("stringType", t, f, a); }
+                        public static String integerType(Class<?> t, String f) { return call("integerType", t, f); }
+                    }
+                    """,
+            "org.example.annotations.CompiledValidator", """
+                    package org.example.annotations;
+                    public interface CompiledValidator { void validate(Object obj); }
+                    """,
+            "org.example.annotations.GeneratedValidator", """
+                    package org.example.annotations;
+                    public interface GeneratedValidator extends CompiledValidator { Class<?> type(); }
+                    """);
+
+    private static final String PLAYER = """
+            package shop;
+            import org.example.annotations.*;
+            public class Player {
+                @NotNull @StringLength(min = 3, max = 8) String name;
+                @MinValue(18) @MaxValue(99) int age;
+                public Player(String name, int age) { this.name = name; this.age = age; }
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void generatesValidatorAndServiceEntry() throws Exception {
+        Compilation compilation = compile(Map.of("shop.Player", PLAYER));
+
+        assertTrue(compilation.success, compilation.diagnostics::toString);
+        assertTrue(Files.exists(output.resolve("shop/PlayerValidator.class")));
+        assertEquals("shop.PlayerValidator", Files.readString(
+                output.resolve("META-INF/services/org.example.annotations.GeneratedValidator")).trim());
+    }
+
+    @Test
+    void generatedValidatorTakesItsMessagesFromTheCatalog() throws Exception {
+        assertTrue(compile(Map.of("shop.Player", PLAYER)).success);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> player = loader.loadClass("shop.Player");
+            Object validator = loader.loadClass("shop.PlayerValidator").getConstructor().newInstance();
+            Method validate = validator.getClass().getMethod("validate", Object.class);
+            assertEquals(player, validator.getClass().getMethod("type").invoke(validator));
+
+            validate.invoke(validator, player.getConstructor(String.class, int.class).newInstance("alice", 30));
+            assertViolation(validate, validator, player.getConstructor(String.class, int.class).newInstance(null, 30),
+                    IllegalArgumentException.class, "notNull Player.name");
+            assertViolation(validate, validator, player.getConstructor(String.class, int.class).newInstance("al", 30),
+                    IllegalArgumentException.class, "length Player.name 3 8");
+            assertViolation(validate, validator, player.getConstructor(String.class, int.class).newInstance("alice", 100),
+                    IllegalArgumentException.class, "maxValue Player.age 99");
+            assertViolation(validate, validator, player.getConstructor(String.class, int.class).newInstance("alice", 17),
+                    IllegalArgumentException.class, "minValue Player.age 18");
+        }
+    }
+
+    @Test
+    void generatedValidatorReportsMisplacedConstraints() throws Exception {
+        assertTrue(compile(Map.of("shop.Badge", """
+                package shop;
+                import org.example.annotations.*;
+                public class Badge { @StringLength(max = 2) public int code; @MinValue(1) public String rank; }
+                """)).success);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Object validator = loader.loadClass("shop.BadgeValidator").getConstructor().newInstance();
+            Method validate = validator.getClass().getMethod("validate", Object.class);
+
+            assertViolation(validate, validator, loader.loadClass("shop.Badge").getConstructor().newInstance(),
+                    IllegalStateException.class, "stringType Badge.code StringLength");
+        }
+    }
+
+    @Test
+    void skipsClassesTheGeneratedCodeCannotHandle() throws Exception {
+        Compilation compilation = compile(Map.of(
+                "shop.Secret", """
+                        package shop;
+                        import org.example.annotations.*;
+                        public class Secret { @NotNull private String code; }
+                        """,
+                "shop.Coupon", """
+                        package shop;
+                        import org.example.annotations.*;
+                        public class Coupon { @NotNull @Pattern(regexp = "[A-Z]+") String code; }
+                        """));
+
+        assertTrue(compilation.success, compilation.diagnostics::toString);
+        assertFalse(Files.exists(output.resolve("shop/SecretValidator.class")));
+        assertFalse(Files.exists(output.resolve("shop/CouponValidator.class")));
+        assertTrue(compilation.notes().stream().anyMatch(note -> note.contains("field 'code' is private")));
+        assertTrue(compilation.notes().stream().anyMatch(note -> note.contains("field 'code' has a @Pattern constraint")));
+    }
+
+    private static void assertViolation(Method validate, Object validator, Object target,
+                                        Class<? extends Exception> type, String message) {
+        InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> validate.invoke(validator, target));
+        assertInstanceOf(type, e.getCause());
+        assertEquals(message, e.getCause().getMessage());
+    }
+
+    private Compilation compile(Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> units = new ArrayList<>();
+        ANNOTATIONS.forEach((name, source) -> units.add(new Source(name, source)));
+        sources.forEach((name, source) -> units.add(new Source(name, source)));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                List.of("-d", output.toString(), "-s", output.toString(), "-implicit:none"),
+                null, units);
+        task.setProcessors(List.of(new ValidatorProcessor()));
+        return new Compilation(task.call(), diagnostics.getDiagnostics());
+    }
+
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        List<String> notes() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .toList();
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String code;
+
+        Source(String name, String code) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}